@@ -0,0 +1,167 @@
+package guru.springframework.spring6resttemplate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.spring6resttemplate.client.BeerCache;
+import guru.springframework.spring6resttemplate.client.BeerClient;
+import guru.springframework.spring6resttemplate.client.BeerClientImpl;
+import guru.springframework.spring6resttemplate.client.BeerJsonCodec;
+import guru.springframework.spring6resttemplate.config.MetricsClientHttpRequestInterceptor;
+import guru.springframework.spring6resttemplate.config.OAuthClientInterceptor;
+import guru.springframework.spring6resttemplate.config.TimedMappingJackson2HttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.oauth2.client.InMemoryOAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * {@link BeerClientImpl} over real HTTP against {@link StubBeerServer}, with the production interceptor
+ * chain and a pooled Apache HttpClient sized like {@code application.properties}.
+ * <p>
+ * Each invocation issues {@code concurrency} calls at once on virtual threads and waits for all of
+ * them, so a score is per batch: throughput in batches/ms, and the {@code SampleTime} percentiles are
+ * the latency of the slowest call in a batch. Every call in a batch uses its own beer id or query so
+ * request coalescing and the cache (zero time-to-live) never short-circuit the network.
+ * <p>
+ * {@code oauth=true} adds {@link OAuthClientInterceptor} with a pre-authorized token; the difference
+ * to {@code oauth=false} is the steady-state cost of the interceptor per request.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeerClientStubServerBenchmark {
+
+    @Param({"1", "16", "64"})
+    int concurrency;
+
+    @Param({"false", "true"})
+    boolean oauth;
+
+    StubBeerServer server;
+    PoolingHttpClientConnectionManager connectionManager;
+    ExecutorService executor;
+    BeerClient beerClient;
+    String[] beerIds;
+    List<Map<String, String>> queries;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        server = new StubBeerServer(objectMapper);
+
+        connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(200)
+                .setMaxConnPerRoute(50)
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+        TimedMappingJackson2HttpMessageConverter jsonConverter =
+                new TimedMappingJackson2HttpMessageConverter(objectMapper, meterRegistry);
+
+        RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder()
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(new MetricsClientHttpRequestInterceptor(meterRegistry))
+                .additionalCustomizers(restTemplate -> restTemplate.getMessageConverters().replaceAll(converter ->
+                        converter instanceof MappingJackson2HttpMessageConverter ? jsonConverter : converter))
+                .uriTemplateHandler(new DefaultUriBuilderFactory(server.rootUrl()));
+        if (oauth) {
+            restTemplateBuilder = restTemplateBuilder.additionalInterceptors(oAuthClientInterceptor(meterRegistry));
+        }
+
+        beerClient = new BeerClientImpl(restTemplateBuilder.build(), new BeerJsonCodec(objectMapper, meterRegistry),
+                new BeerCache(1, Duration.ZERO, Duration.ofMinutes(1), meterRegistry));
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        beerIds = IntStream.range(0, concurrency).mapToObj(i -> UUID.randomUUID().toString()).toArray(String[]::new);
+        queries = IntStream.range(0, concurrency).mapToObj(i -> Map.of("beerName", "Mango " + i)).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+        connectionManager.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void getBeerById(Blackhole blackhole) throws Exception {
+        fanOut(i -> beerClient.getBeerById(beerIds[i]), blackhole);
+    }
+
+    @Benchmark
+    public void listBeers(Blackhole blackhole) throws Exception {
+        fanOut(i -> beerClient.listBeers(queries.get(i)), blackhole);
+    }
+
+    private void fanOut(IntFunction<Object> call, Blackhole blackhole) throws Exception {
+        Future<?>[] calls = new Future<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            int slot = i;
+            calls[i] = executor.submit(() -> call.apply(slot));
+        }
+        for (Future<?> result : calls) {
+            blackhole.consume(result.get());
+        }
+    }
+
+    static OAuthClientInterceptor oAuthClientInterceptor(MeterRegistry meterRegistry) {
+        ClientRegistration registration = ClientRegistration.withRegistrationId(OAuthClientInterceptor.SPRINGAUTH)
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .clientId("client")
+                .clientSecret("secret")
+                .tokenUri("http://localhost:9000/oauth2/token")
+                .build();
+        // the token endpoint is not part of the measurement: hand out a long-lived token without a round trip
+        OAuth2AuthorizedClientManager manager = request -> {
+            Instant now = Instant.now();
+            return new OAuth2AuthorizedClient(registration, request.getPrincipal().getName(),
+                    new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "benchmark-token", now, now.plus(Duration.ofHours(1))));
+        };
+        return new OAuthClientInterceptor(manager,
+                new InMemoryOAuth2AuthorizedClientService(new InMemoryClientRegistrationRepository(registration)),
+                meterRegistry);
+    }
+}
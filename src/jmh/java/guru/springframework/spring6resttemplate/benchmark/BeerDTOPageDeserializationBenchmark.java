@@ -0,0 +1,82 @@
+package guru.springframework.spring6resttemplate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.spring6resttemplate.client.BeerJsonCodec;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import guru.springframework.spring6resttemplate.model.BeerStyle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Materialized {@link BeerDTOPage} binding versus {@link BeerJsonCodec#readPage} streaming.
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the allocation per page, and the
+ * churn/GC-time counters show how much of it survives long enough to be promoted.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class BeerDTOPageDeserializationBenchmark {
+
+    @Param({"25", "1000", "5000"})
+    int pageSize;
+
+    ObjectMapper objectMapper;
+    BeerJsonCodec beerJsonCodec;
+    byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        beerJsonCodec = new BeerJsonCodec(objectMapper, new SimpleMeterRegistry());
+        payload = objectMapper.writeValueAsBytes(page(pageSize));
+    }
+
+    @Benchmark
+    public void materialized(Blackhole blackhole) throws IOException {
+        BeerDTOPage page = objectMapper.readValue(payload, BeerDTOPage.class);
+        page.getBeers().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws IOException {
+        blackhole.consume(beerJsonCodec.readPage(new ByteArrayInputStream(payload), blackhole::consume));
+    }
+
+    static BeerDTOPage page(int pageSize) {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<BeerDTO> beers = IntStream.range(0, pageSize)
+                .mapToObj(i -> BeerDTO.builder().id(UUID.randomUUID()).version(i % 7)
+                        .beerName("Beer " + i).beerStyle(BeerStyle.values()[i % BeerStyle.values().length])
+                        .upc(String.valueOf(10_000_000 + i)).quantityOnHand(i % 500)
+                        .price(BigDecimal.valueOf(1_000 + i, 2)).createdDate(now).updateDate(now).build())
+                .toList();
+        return new BeerDTOPage(0, pageSize, 10, pageSize * 10, beers);
+    }
+}
@@ -0,0 +1,76 @@
+package guru.springframework.spring6resttemplate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.spring6resttemplate.client.BeerJsonCodec;
+import guru.springframework.spring6resttemplate.config.MetricsClientHttpRequestInterceptor;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerStyle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code createBeer} POST through the message converter chain ({@code postForObject}, as before) versus
+ * the {@link BeerJsonCodec} fast path with its cached {@code ObjectWriter}/{@code ObjectReader}. Both go
+ * through an interceptor, as in production, and a stub transport. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per POST.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateBeerRequestBodyBenchmark {
+
+    RestTemplate restTemplate;
+    BeerJsonCodec beerJsonCodec;
+    BeerDTO newBeer;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        newBeer = BeerDTO.builder().beerName("Mango Bobs").beerStyle(BeerStyle.ALE).upc("0631234200036")
+                .quantityOnHand(122).price(BigDecimal.valueOf(1295, 2)).build();
+        BeerDTO created = newBeer.toBuilder().id(UUID.randomUUID()).version(0).createdDate(now).updateDate(now).build();
+
+        StubClientHttpRequestFactory requestFactory = new StubClientHttpRequestFactory(objectMapper.writeValueAsBytes(created));
+        restTemplate = new RestTemplateBuilder()
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(new MetricsClientHttpRequestInterceptor(new SimpleMeterRegistry()))
+                .uriTemplateHandler(new DefaultUriBuilderFactory(RestTemplateReuseBenchmark.ROOT_URL))
+                .build();
+        beerJsonCodec = new BeerJsonCodec(objectMapper, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public BeerDTO converterChain() {
+        return restTemplate.postForObject("beer", newBeer, BeerDTO.class);
+    }
+
+    @Benchmark
+    public BeerDTO codecFastPath() {
+        return restTemplate.execute("beer", HttpMethod.POST, beerJsonCodec.beerRequest(newBeer), beerJsonCodec.beerResponse());
+    }
+}
@@ -0,0 +1,158 @@
+package guru.springframework.spring6resttemplate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.spring6resttemplate.client.BeerCache;
+import guru.springframework.spring6resttemplate.client.BeerClient;
+import guru.springframework.spring6resttemplate.client.BeerClientImpl;
+import guru.springframework.spring6resttemplate.client.BeerJsonCodec;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerStyle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code getBeerById} with 500 requests in flight, over pooled Apache HttpClient (HTTP/1.1, one connection
+ * per in-flight request) versus the JDK client multiplexing HTTP/2 streams over h2c.
+ * <p>
+ * Each of the 500 benchmark threads has its own beer id, and the server holds every response for
+ * {@code serverLatencyMillis} so the requests really overlap. {@code SampleTime} reports the per-request
+ * percentiles (compare {@code p0.99}); the connections the server accepted and the most it had open at once
+ * are logged when each trial ends.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Threads(Http2TransportBenchmark.IN_FLIGHT)
+public class Http2TransportBenchmark {
+
+    static final int IN_FLIGHT = 500;
+
+    @Param({"apache", "jdk-http2"})
+    String transport;
+
+    @Param({"5"})
+    long serverLatencyMillis;
+
+    final AtomicInteger accepted = new AtomicInteger();
+    final AtomicInteger open = new AtomicInteger();
+    final AtomicInteger peakOpen = new AtomicInteger();
+
+    DisposableServer server;
+    PoolingHttpClientConnectionManager connectionManager;
+    HttpClient jdkHttpClient;
+    ExecutorService executor;
+    BeerClient beerClient;
+
+    @State(Scope.Thread)
+    public static class BeerId {
+        String value = UUID.randomUUID().toString();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        byte[] body = objectMapper.writeValueAsBytes(BeerDTO.builder().id(UUID.randomUUID()).version(0)
+                .beerName("Stella").beerStyle(BeerStyle.WHEAT).upc("98765432").quantityOnHand(200)
+                .price(BigDecimal.valueOf(12.12)).build());
+
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+                .http2Settings(settings -> settings.maxConcurrentStreams(2 * IN_FLIGHT))
+                .doOnChannelInit((observer, channel, remoteAddress) -> {
+                    accepted.incrementAndGet();
+                    peakOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+                    channel.closeFuture().addListener(future -> open.decrementAndGet());
+                })
+                .route(routes -> routes.get("/api/v1/beer/{beerId}", (request, response) -> response
+                        .header("Content-Type", "application/json")
+                        .sendByteArray(Mono.delay(Duration.ofMillis(serverLatencyMillis)).thenReturn(body))))
+                .bindNow();
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder()
+                .requestFactory(this::requestFactory)
+                .uriTemplateHandler(new DefaultUriBuilderFactory("http://127.0.0.1:" + server.port() + "/api/v1/"));
+        // zero time-to-live: every call goes to the server instead of being a cache hit
+        beerClient = new BeerClientImpl(restTemplateBuilder.build(), new BeerJsonCodec(objectMapper, new SimpleMeterRegistry()),
+                new BeerCache(IN_FLIGHT, Duration.ZERO, Duration.ofMinutes(1), new SimpleMeterRegistry()));
+    }
+
+    private ClientHttpRequestFactory requestFactory() {
+        if ("jdk-http2".equals(transport)) {
+            jdkHttpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .executor(executor)
+                    .build();
+            return new JdkClientHttpRequestFactory(jdkHttpClient, executor);
+        }
+        // sized so the pool never queues: HTTP/1.1 needs a connection per in-flight request
+        connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(IN_FLIGHT)
+                .setMaxConnPerRoute(IN_FLIGHT)
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(HttpClients.custom().setConnectionManager(connectionManager).build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        log.info("{}: {} connections accepted, at most {} open at once", transport, accepted.get(), peakOpen.get());
+        if (connectionManager != null) {
+            connectionManager.close();
+        }
+        if (jdkHttpClient != null) {
+            jdkHttpClient.close();
+        }
+        executor.close();
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public BeerDTO getBeerById(BeerId beerId) {
+        return beerClient.getBeerById(beerId.value);
+    }
+}
@@ -0,0 +1,75 @@
+package guru.springframework.spring6resttemplate.benchmark;
+
+import guru.springframework.spring6resttemplate.client.BeerQuery;
+import guru.springframework.spring6resttemplate.client.BeerQueryTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of building the {@code listBeers} request URI. The old path built a relative URI with
+ * {@link UriComponentsBuilder}, and the RestTemplate then expanded it against the root URL. The new
+ * path expands a {@link BeerQuery} into the precompiled {@link BeerQueryTemplate}. Run with
+ * {@code -prof gc} to compare the bytes allocated per URI as well.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListBeersUriBenchmark {
+
+    Map<String, String> parameters;
+    BeerQuery query;
+    DefaultUriBuilderFactory uriBuilderFactory;
+    BeerQueryTemplate queryTemplate;
+
+    @Setup
+    public void setUp() {
+        parameters = Map.of("beerName", "Mango Bobs", "beerStyle", "IPA", "pageNumber", "3", "pageSize", "25");
+        query = BeerQuery.from(parameters);
+        uriBuilderFactory = new DefaultUriBuilderFactory(RestTemplateReuseBenchmark.ROOT_URL);
+        queryTemplate = new BeerQueryTemplate(uriBuilderFactory.expand("beer").toString());
+    }
+
+    @Benchmark
+    public URI uriComponentsBuilder() {
+        UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUri(URI.create("beer"));
+        if (parameters.containsKey("beerName"))
+            uriComponentsBuilder.queryParam("beerName", parameters.get("beerName"));
+        if (parameters.containsKey("beerStyle"))
+            uriComponentsBuilder.queryParam("beerStyle", parameters.get("beerStyle"));
+        if (parameters.containsKey("pageNumber"))
+            uriComponentsBuilder.queryParam("pageNumber", parameters.get("pageNumber"));
+        if (parameters.containsKey("pageSize"))
+            uriComponentsBuilder.queryParam("pageSize", parameters.get("pageSize"));
+        return uriBuilderFactory.expand(uriComponentsBuilder.toUriString());
+    }
+
+    @Benchmark
+    public URI queryTemplate() {
+        return URI.create(queryTemplate.expand(query));
+    }
+
+    @Benchmark
+    public URI queryTemplateFromMap() {
+        return URI.create(queryTemplate.expand(BeerQuery.from(parameters)));
+    }
+}
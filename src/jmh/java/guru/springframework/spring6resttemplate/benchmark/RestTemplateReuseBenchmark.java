@@ -0,0 +1,81 @@
+package guru.springframework.spring6resttemplate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.spring6resttemplate.client.BeerCache;
+import guru.springframework.spring6resttemplate.client.BeerClient;
+import guru.springframework.spring6resttemplate.client.BeerClientImpl;
+import guru.springframework.spring6resttemplate.client.BeerJsonCodec;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerStyle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a RestTemplate on every call (the old BeerClientImpl behaviour) with
+ * reusing one shared instance. Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}
+ * for the bytes allocated per call.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestTemplateReuseBenchmark {
+
+    static final String ROOT_URL = "http://localhost:8080/api/v1/";
+
+    RestTemplateBuilder restTemplateBuilder;
+    BeerJsonCodec beerJsonCodec;
+    BeerCache beerCache;
+    BeerClient sharedClient;
+    String beerId;
+
+    @Setup
+    public void setUp() throws Exception {
+        BeerDTO beer = BeerDTO.builder().id(UUID.randomUUID()).version(0).beerName("Stella")
+                .beerStyle(BeerStyle.WHEAT).upc("98765432").quantityOnHand(200)
+                .price(BigDecimal.valueOf(12.12)).build();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        byte[] body = objectMapper.writeValueAsBytes(beer);
+
+        StubClientHttpRequestFactory requestFactory = new StubClientHttpRequestFactory(body);
+        restTemplateBuilder = new RestTemplateBuilder()
+                .requestFactory(() -> requestFactory)
+                .uriTemplateHandler(new DefaultUriBuilderFactory(ROOT_URL));
+        beerJsonCodec = new BeerJsonCodec(objectMapper, new SimpleMeterRegistry());
+        // zero time-to-live: every call goes through the RestTemplate instead of being a cache hit
+        beerCache = new BeerCache(1, Duration.ZERO, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        sharedClient = new BeerClientImpl(restTemplateBuilder.build(), beerJsonCodec, beerCache);
+        beerId = beer.getId().toString();
+    }
+
+    @Benchmark
+    public BeerDTO buildPerCall() {
+        return new BeerClientImpl(restTemplateBuilder.build(), beerJsonCodec, beerCache).getBeerById(beerId);
+    }
+
+    @Benchmark
+    public BeerDTO sharedRestTemplate() {
+        return sharedClient.getBeerById(beerId);
+    }
+}
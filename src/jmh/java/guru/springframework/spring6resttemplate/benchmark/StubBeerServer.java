@@ -0,0 +1,102 @@
+package guru.springframework.spring6resttemplate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * In-process beer service on a loopback port, answering {@code GET /api/v1/beer} and
+ * {@code GET /api/v1/beer/{beerId}} with the recorded {@code payloads/beer.json}.
+ * <p>
+ * List responses are pages of copies of the recorded beer, built once per {@code pageSize} and
+ * served from memory so the server adds as little as possible to what is measured.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public class StubBeerServer implements AutoCloseable {
+
+    static final String BASE_PATH = "/api/v1/";
+    static final int DEFAULT_PAGE_SIZE = 25;
+
+    private final ObjectMapper objectMapper;
+    private final BeerDTO recordedBeer;
+    private final byte[] beerPayload;
+    private final Map<Integer, byte[]> pagePayloads = new ConcurrentHashMap<>();
+    private final HttpServer server;
+
+    public StubBeerServer(ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        try (InputStream recorded = StubBeerServer.class.getResourceAsStream("/payloads/beer.json")) {
+            this.beerPayload = recorded.readAllBytes();
+        }
+        this.recordedBeer = objectMapper.readValue(beerPayload, BeerDTO.class);
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext(BASE_PATH + "beer", this::handle);
+        this.server.start();
+    }
+
+    public String rootUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            byte[] body = path.endsWith("/beer") ? page(pageSize(exchange)) : beerPayload;
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static int pageSize(HttpExchange exchange) {
+        String pageSize = UriComponentsBuilder.fromUri(exchange.getRequestURI()).build()
+                .getQueryParams().getFirst("pageSize");
+        return pageSize == null ? DEFAULT_PAGE_SIZE : Integer.parseInt(pageSize);
+    }
+
+    private byte[] page(int pageSize) {
+        return pagePayloads.computeIfAbsent(pageSize, size -> {
+            List<BeerDTO> beers = IntStream.range(0, size)
+                    .mapToObj(i -> recordedBeer.toBuilder().id(UUID.randomUUID()).beerName(recordedBeer.getBeerName() + " " + i).build())
+                    .toList();
+            try {
+                return objectMapper.writeValueAsBytes(new BeerDTOPage(0, size, 10, size * 10, beers));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
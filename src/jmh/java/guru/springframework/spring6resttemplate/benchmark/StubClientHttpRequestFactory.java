@@ -0,0 +1,37 @@
+package guru.springframework.spring6resttemplate.benchmark;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+
+/**
+ * Answers every request with the same canned JSON body, so benchmarks measure the
+ * client side of a call without any socket I/O.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public class StubClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final byte[] responseBody;
+
+    public StubClientHttpRequestFactory(byte[] responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        MockClientHttpResponse response = new MockClientHttpResponse(responseBody, HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        MockClientHttpRequest request = new MockClientHttpRequest(httpMethod, uri);
+        request.setResponse(response);
+        return request;
+    }
+}
@@ -0,0 +1,82 @@
+package guru.springframework.spring6resttemplate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import guru.springframework.spring6resttemplate.client.BeerJsonCodec;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decode time of a {@link BeerDTOPage} in JSON versus Smile, both bound as a whole and streamed through
+ * {@link BeerJsonCodec#readPage(java.io.InputStream, MediaType, java.util.function.Consumer)}. The payload
+ * size of each format is logged when each trial ends.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "smile"})
+    String format;
+
+    @Param({"25", "1000"})
+    int pageSize;
+
+    BeerJsonCodec beerJsonCodec;
+    ObjectReader pageReader;
+    MediaType contentType;
+    byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ObjectMapper formatMapper = format.equals("smile") ? objectMapper.copyWith(new SmileFactory()) : objectMapper;
+        beerJsonCodec = new BeerJsonCodec(objectMapper, new SimpleMeterRegistry(), true);
+        pageReader = formatMapper.readerFor(BeerDTOPage.class);
+        contentType = format.equals("smile") ? BeerJsonCodec.APPLICATION_SMILE : MediaType.APPLICATION_JSON;
+        payload = formatMapper.writeValueAsBytes(BeerDTOPageDeserializationBenchmark.page(pageSize));
+    }
+
+    @TearDown
+    public void tearDown() {
+        log.info("{} page of {} beers: {} bytes", format, pageSize, payload.length);
+    }
+
+    @Benchmark
+    public void materialized(Blackhole blackhole) throws IOException {
+        BeerDTOPage page = pageReader.readValue(payload);
+        page.getBeers().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws IOException {
+        blackhole.consume(beerJsonCodec.readPage(new ByteArrayInputStream(payload), contentType, blackhole::consume));
+    }
+}
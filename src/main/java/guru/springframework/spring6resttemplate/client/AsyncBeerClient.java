@@ -0,0 +1,29 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Non-blocking view of {@link BeerClient} for callers that fan out many requests at once.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public interface AsyncBeerClient {
+    CompletableFuture<BeerDTOPage> listBeers();
+    CompletableFuture<BeerDTOPage> listBeers(Map<String, String> parameters);
+    CompletableFuture<BeerDTO> getBeerById(String beerId);
+    CompletableFuture<BeerDTO> createBeer(BeerDTO newBeer);
+    CompletableFuture<BeerDTO> updateBeer(String beerId, BeerDTO beer);
+    CompletableFuture<Void> deleteBeer(String beerId);
+
+    /**
+     * Streams every beer matching {@code filters}, page by page in order, prefetching the next pages
+     * concurrently. Close the stream when abandoning it early to cancel outstanding page requests.
+     */
+    Stream<BeerDTO> streamAllBeers(Map<String, String> filters);
+}
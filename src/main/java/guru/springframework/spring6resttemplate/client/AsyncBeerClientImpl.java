@@ -0,0 +1,115 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs {@link BeerClient} calls on the beer client executor (a virtual thread per call by default).
+ * At most {@code rest.template.async.max-concurrency} calls are on the wire at once; the rest
+ * park their virtual thread until a permit frees up.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Service
+public class AsyncBeerClientImpl implements AsyncBeerClient {
+
+    private final BeerClient beerClient;
+    private final Executor executor;
+    private final Semaphore permits;
+    private final int prefetchWindow;
+
+    public AsyncBeerClientImpl(BeerClient beerClient,
+                               @Qualifier("beerClientExecutor") Executor executor,
+                               @Value("${rest.template.async.max-concurrency}") int maxConcurrency,
+                               @Value("${rest.template.async.prefetch-window}") int prefetchWindow) {
+        this.beerClient = beerClient;
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrency);
+        this.prefetchWindow = prefetchWindow;
+    }
+
+    @Override
+    public CompletableFuture<BeerDTOPage> listBeers() {
+        return submit(beerClient::listBeers);
+    }
+
+    @Override
+    public CompletableFuture<BeerDTOPage> listBeers(Map<String, String> parameters) {
+        return submit(() -> beerClient.listBeers(parameters));
+    }
+
+    @Override
+    public CompletableFuture<BeerDTO> getBeerById(String beerId) {
+        return submit(() -> beerClient.getBeerById(beerId));
+    }
+
+    @Override
+    public CompletableFuture<BeerDTO> createBeer(BeerDTO newBeer) {
+        return submit(() -> beerClient.createBeer(newBeer));
+    }
+
+    @Override
+    public CompletableFuture<BeerDTO> updateBeer(String beerId, BeerDTO beer) {
+        return submit(() -> beerClient.updateBeer(beerId, beer));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteBeer(String beerId) {
+        return submit(() -> {
+            beerClient.deleteBeer(beerId);
+            return null;
+        });
+    }
+
+    @Override
+    public Stream<BeerDTO> streamAllBeers(Map<String, String> filters) {
+        BeerPageIterator pages = new BeerPageIterator(pageNumber -> {
+            Map<String, String> parameters = new HashMap<>(filters);
+            parameters.put("pageNumber", String.valueOf(pageNumber));
+            // a FutureTask, unlike a CompletableFuture, interrupts its thread when the stream cancels it
+            FutureTask<BeerDTOPage> page = new FutureTask<>(() -> withPermit(() -> beerClient.listBeers(parameters)));
+            executor.execute(page);
+            return page;
+        }, prefetchWindow);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::close);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return withPermit(call);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private <T> T withPermit(Supplier<T> call) throws InterruptedException {
+        permits.acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-item operations on top of {@link BeerClient}.
+ * <p>
+ * Each operation uses the server's bulk endpoint when its {@code rest.template.bulk.*-path} is set.
+ * Otherwise it fans out single calls on the beer client executor, keeping at most
+ * {@code rest.template.bulk.parallelism} in flight over the shared connection pool. Reads, bulk or not, must finish
+ * within {@code rest.template.bulk.deadline}, writes within {@code rest.template.bulk.write-deadline}.
+ * Items that fail or miss the deadline are reported individually instead of failing the whole batch. A create,
+ * bulk or fanned out, still in flight at the deadline is reported as an {@link OutcomeUnknownException}, since
+ * the server may yet create the beer; items that were never sent, and idempotent calls, are reported as a
+ * {@link TimeoutException}.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+@Service
+public class BeerBatchClient {
+
+    private final BeerClient beerClient;
+    private final RestTemplate restTemplate;
+    private final BeerCache beerCache;
+    private final Executor executor;
+    private final int parallelism;
+    private final Duration deadline;
+    private final Duration writeDeadline;
+    private final String bulkGetPath;
+    private final String bulkCreatePath;
+    private final String bulkUpdatePath;
+    private final String bulkDeletePath;
+
+    public BeerBatchClient(BeerClient beerClient,
+                           RestTemplate restTemplate,
+                           BeerCache beerCache,
+                           @Qualifier("beerClientExecutor") Executor executor,
+                           @Value("${rest.template.bulk.parallelism}") int parallelism,
+                           @Value("${rest.template.bulk.deadline}") Duration deadline,
+                           @Value("${rest.template.bulk.write-deadline}") Duration writeDeadline,
+                           @Value("${rest.template.bulk.get-path}") String bulkGetPath,
+                           @Value("${rest.template.bulk.create-path}") String bulkCreatePath,
+                           @Value("${rest.template.bulk.update-path}") String bulkUpdatePath,
+                           @Value("${rest.template.bulk.delete-path}") String bulkDeletePath) {
+        this.beerClient = beerClient;
+        this.restTemplate = restTemplate;
+        this.beerCache = beerCache;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.deadline = deadline;
+        this.writeDeadline = writeDeadline;
+        this.bulkGetPath = bulkGetPath;
+        this.bulkCreatePath = bulkCreatePath;
+        this.bulkUpdatePath = bulkUpdatePath;
+        this.bulkDeletePath = bulkDeletePath;
+    }
+
+    public BeerBatchResult<UUID, BeerDTO> getBeersByIds(Collection<UUID> beerIds) {
+        return getBeersByIds(beerIds, deadline);
+    }
+
+    public BeerBatchResult<UUID, BeerDTO> getBeersByIds(Collection<UUID> beerIds, Duration deadline) {
+        Set<UUID> ids = new LinkedHashSet<>(beerIds);
+        if (StringUtils.hasText(bulkGetPath)) {
+            return bulkGet(ids, deadline);
+        }
+        return fanOut(ids, beerId -> () -> beerClient.getBeerById(beerId.toString()), deadline, true);
+    }
+
+    /**
+     * Creates the beers, keyed in the result by their position in {@code newBeers}.
+     */
+    public BeerBatchResult<Integer, BeerDTO> createBeers(List<BeerDTO> newBeers) {
+        if (StringUtils.hasText(bulkCreatePath)) {
+            return bulkCreate(newBeers);
+        }
+        return fanOut(indexes(newBeers.size()), index -> () -> beerClient.createBeer(newBeers.get(index)), writeDeadline,
+                false);
+    }
+
+    public BeerBatchResult<String, BeerDTO> updateBeers(Map<String, BeerDTO> beers) {
+        return updateBeers(beers, ReadBack.IMMEDIATE);
+    }
+
+    /**
+     * Updates the beers, keyed by beer id, reading the updated beers back as {@code readBack} says.
+     */
+    public BeerBatchResult<String, BeerDTO> updateBeers(Map<String, BeerDTO> beers, ReadBack readBack) {
+        BeerBatchResult<String, BeerDTO> updated;
+        if (StringUtils.hasText(bulkUpdatePath)) {
+            updated = bulkUpdate(beers);
+        } else if (readBack == ReadBack.IMMEDIATE) {
+            return fanOut(beers.keySet(), beerId -> () -> beerClient.updateBeer(beerId, beers.get(beerId)), writeDeadline,
+                    true);
+        } else {
+            updated = fanOut(beers.keySet(), beerId -> () -> {
+                Integer version = beerClient.replaceBeer(beerId, beers.get(beerId));
+                return version == null ? beers.get(beerId) : beers.get(beerId).toBuilder().version(version).build();
+            }, writeDeadline, true);
+        }
+        if (readBack == ReadBack.NONE) {
+            return updated;
+        }
+
+        BeerBatchResult<String, BeerDTO> readBackResult = readBeers(updated.results().keySet());
+        Map<String, Throwable> failures = new LinkedHashMap<>(updated.failures());
+        failures.putAll(readBackResult.failures());
+        return new BeerBatchResult<>(readBackResult.results(), failures);
+    }
+
+    public BeerBatchResult<String, Void> deleteBeers(Collection<String> beerIds) {
+        Set<String> ids = new LinkedHashSet<>(beerIds);
+        if (StringUtils.hasText(bulkDeletePath)) {
+            return bulkDelete(ids);
+        }
+        return fanOut(ids, beerId -> () -> {
+            beerClient.deleteBeer(beerId);
+            return null;
+        }, writeDeadline, true);
+    }
+
+    private BeerBatchResult<String, BeerDTO> readBeers(Set<String> beerIds) {
+        if (StringUtils.hasText(bulkGetPath)) {
+            Set<UUID> ids = new LinkedHashSet<>();
+            beerIds.forEach(beerId -> ids.add(UUID.fromString(beerId)));
+            BeerBatchResult<UUID, BeerDTO> read = bulkGet(ids, deadline);
+            Map<String, BeerDTO> results = new LinkedHashMap<>();
+            Map<String, Throwable> failures = new LinkedHashMap<>();
+            read.results().forEach((id, beer) -> results.put(id.toString(), beer));
+            read.failures().forEach((id, failure) -> failures.put(id.toString(), failure));
+            return new BeerBatchResult<>(results, failures);
+        }
+        return fanOut(beerIds, beerId -> () -> beerClient.getBeerById(beerId), deadline, true);
+    }
+
+    private BeerBatchResult<Integer, BeerDTO> bulkCreate(List<BeerDTO> newBeers) {
+        Map<Integer, BeerDTO> results = new LinkedHashMap<>();
+        Map<Integer, Throwable> failures = new LinkedHashMap<>();
+        try {
+            log.debug("POST request to: {} for {} beers", bulkCreatePath, newBeers.size());
+            BeerDTO[] created = callWithin(() -> restTemplate.postForObject(bulkCreatePath, newBeers, BeerDTO[].class),
+                    writeDeadline, false);
+            // the bulk endpoint answers with the created beers in request order
+            for (int i = 0; i < newBeers.size(); i++) {
+                if (created != null && i < created.length && created[i] != null) {
+                    results.put(i, created[i]);
+                } else {
+                    failures.put(i, new NoSuchElementException("Beer not created: " + newBeers.get(i).getBeerName()));
+                }
+            }
+        } catch (Exception e) {
+            indexes(newBeers.size()).forEach(i -> failures.put(i, e));
+        }
+        return new BeerBatchResult<>(results, failures);
+    }
+
+    private BeerBatchResult<String, BeerDTO> bulkUpdate(Map<String, BeerDTO> beers) {
+        beers.keySet().forEach(beerCache::invalidate);
+        try {
+            log.debug("PUT request to: {} for {} beers", bulkUpdatePath, beers.size());
+            callWithin(() -> {
+                restTemplate.put(bulkUpdatePath, beers);
+                return null;
+            }, writeDeadline, true);
+            return new BeerBatchResult<>(new LinkedHashMap<>(beers), Map.of());
+        } catch (Exception e) {
+            Map<String, Throwable> failures = new LinkedHashMap<>();
+            beers.keySet().forEach(beerId -> failures.put(beerId, e));
+            return new BeerBatchResult<>(Map.of(), failures);
+        }
+    }
+
+    private BeerBatchResult<String, Void> bulkDelete(Set<String> beerIds) {
+        try {
+            log.debug("POST request to: {} for {} beers", bulkDeletePath, beerIds.size());
+            callWithin(() -> restTemplate.postForLocation(bulkDeletePath, beerIds), writeDeadline, true);
+            Map<String, Void> results = new LinkedHashMap<>();
+            beerIds.forEach(beerId -> results.put(beerId, null));
+            return new BeerBatchResult<>(results, Map.of());
+        } catch (Exception e) {
+            Map<String, Throwable> failures = new LinkedHashMap<>();
+            beerIds.forEach(beerId -> failures.put(beerId, e));
+            return new BeerBatchResult<>(Map.of(), failures);
+        } finally {
+            beerIds.forEach(beerCache::invalidate);
+        }
+    }
+
+    private static List<Integer> indexes(int size) {
+        return IntStream.range(0, size).boxed().toList();
+    }
+
+    private BeerBatchResult<UUID, BeerDTO> bulkGet(Set<UUID> ids, Duration deadline) {
+        Map<UUID, BeerDTO> results = new LinkedHashMap<>();
+        Map<UUID, Throwable> failures = new LinkedHashMap<>();
+        log.debug("POST request to: {} for {} beers", bulkGetPath, ids.size());
+        try {
+            BeerDTO[] beers = callWithin(() -> restTemplate.postForObject(bulkGetPath, ids, BeerDTO[].class),
+                    deadline, true);
+            if (beers != null) {
+                for (BeerDTO beer : beers) {
+                    // tolerates null elements and beers without an id in the response
+                    if (beer != null && beer.getId() != null && ids.contains(beer.getId())) {
+                        results.put(beer.getId(), beer);
+                    }
+                }
+            }
+            for (UUID id : ids) {
+                if (!results.containsKey(id)) {
+                    failures.put(id, new NoSuchElementException("Beer not found: " + id));
+                }
+            }
+        } catch (Exception e) {
+            ids.forEach(id -> failures.put(id, e));
+        }
+        return new BeerBatchResult<>(results, failures);
+    }
+
+    /**
+     * Runs a bulk call on the executor and waits for it up to {@code deadline}.
+     *
+     * @param idempotent whether a call still in flight at the deadline fails with a plain {@link TimeoutException}
+     *                   rather than an {@link OutcomeUnknownException}
+     * @throws Exception what the call threw, or why no result arrived in time
+     */
+    private <T> T callWithin(Supplier<T> call, Duration deadline, boolean idempotent) throws Exception {
+        CompletableFuture<T> request = CompletableFuture.supplyAsync(call, executor);
+        try {
+            return request.get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            request.cancel(true);
+            throw idempotent ? new TimeoutException("No response within " + deadline)
+                    : new OutcomeUnknownException("Sent, but no response within " + deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs one call per key with bounded parallelism and collects whatever finished before the deadline.
+     *
+     * @param idempotent whether a call still in flight at the deadline can be reported as a plain timeout
+     */
+    <K, V> BeerBatchResult<K, V> fanOut(Collection<K> keys, Function<K, Supplier<V>> calls, Duration deadline,
+                                        boolean idempotent) {
+        Semaphore permits = new Semaphore(parallelism);
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        // claimed by the call when it is sent, or by the deadline if that passes first
+        Map<K, AtomicBoolean> claims = new LinkedHashMap<>();
+        for (K key : keys) {
+            Supplier<V> call = calls.apply(key);
+            AtomicBoolean claimed = new AtomicBoolean();
+            claims.put(key, claimed);
+            futures.put(key, CompletableFuture.supplyAsync(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(e);
+                }
+                try {
+                    if (!claimed.compareAndSet(false, true)) {
+                        // queued behind the parallelism limit until the deadline passed
+                        throw new CancellationException();
+                    }
+                    return call.get();
+                } finally {
+                    permits.release();
+                }
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // individual outcomes are collected below
+        }
+
+        Map<K, V> results = new LinkedHashMap<>();
+        Map<K, Throwable> failures = new LinkedHashMap<>();
+        futures.forEach((key, future) -> {
+            if (!future.isDone()) {
+                boolean sent = !claims.get(key).compareAndSet(false, true);
+                future.cancel(true);
+                failures.put(key, sent && !idempotent
+                        ? new OutcomeUnknownException("Sent, but no response within " + deadline)
+                        : new TimeoutException("No response within " + deadline));
+            } else if (future.isCompletedExceptionally()) {
+                failures.put(key, future.exceptionNow());
+            } else {
+                results.put(key, future.resultNow());
+            }
+        });
+        return new BeerBatchResult<>(results, failures);
+    }
+}
@@ -0,0 +1,16 @@
+package guru.springframework.spring6resttemplate.client;
+
+import java.util.Map;
+
+/**
+ * Outcome of a batch call: the items that succeeded and, separately, why each failed item failed.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public record BeerBatchResult<K, V>(Map<K, V> results, Map<K, Throwable> failures) {
+
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+}
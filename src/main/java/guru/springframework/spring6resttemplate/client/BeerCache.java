@@ -0,0 +1,181 @@
+package guru.springframework.spring6resttemplate.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Bounded client-side cache of beers by id (Caffeine, W-TinyLFU eviction).
+ * <p>
+ * An entry is served without a request for {@code rest.template.cache.time-to-live}. After that it
+ * is revalidated with {@code If-None-Match} / {@code If-Modified-Since}, falling back to the beer
+ * version as the entity tag, until it is dropped after {@code rest.template.cache.expire-after-write}.
+ * Beers are copied on the way in and out because {@link BeerDTO} is mutable.
+ * <p>
+ * Each id has a generation that {@link #invalidate} bumps. Reads capture it before sending the GET and store
+ * their response only if it is unchanged, so a GET that overlapped a write cannot put the old beer back.
+ * <p>
+ * Hits, misses and evictions are published as {@code cache.*} meters tagged {@code cache=beer.client}.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Component
+public class BeerCache {
+
+    private final Cache<String, CachedBeer> cache;
+    // the value of writes when each beer was last invalidated
+    private final Cache<String, Long> invalidatedAt;
+    private final AtomicLong writes = new AtomicLong();
+    private final long timeToLiveNanos;
+    private final Counter notModified;
+    private final Counter modified;
+
+    public BeerCache(@Value("${rest.template.cache.max-size}") long maxSize,
+                     @Value("${rest.template.cache.time-to-live}") Duration timeToLive,
+                     @Value("${rest.template.cache.expire-after-write}") Duration expireAfterWrite,
+                     MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.timeToLiveNanos = timeToLive.toNanos();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "beer.client");
+        this.notModified = Counter.builder("beer.client.cache.revalidations").tag("result", "not_modified")
+                .register(meterRegistry);
+        this.modified = Counter.builder("beer.client.cache.revalidations").tag("result", "modified")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the cached entry, fresh or stale, or {@code null}
+     */
+    public CachedBeer get(String beerId) {
+        return cache.getIfPresent(beerId);
+    }
+
+    /**
+     * @return the generation to pass to {@link #put(String, BeerDTO, HttpHeaders, long)} and the other
+     * read-side writes, captured before the request is sent
+     */
+    public long generation(String beerId) {
+        Long generation = invalidatedAt.getIfPresent(beerId);
+        return isNull(generation) ? 0 : generation;
+    }
+
+    /**
+     * @return a counter every {@link #invalidate} bumps, for keys of reads that span several beers
+     */
+    public long writes() {
+        return writes.get();
+    }
+
+    public boolean isFresh(CachedBeer entry) {
+        return System.nanoTime() - entry.storedAt() < timeToLiveNanos;
+    }
+
+    /**
+     * Conditional request headers to revalidate {@code entry}; empty when there is nothing to validate against.
+     */
+    public HttpHeaders conditionalHeaders(CachedBeer entry) {
+        HttpHeaders headers = new HttpHeaders();
+        if (isNull(entry)) {
+            return headers;
+        }
+        if (entry.etag() != null) {
+            headers.setIfNoneMatch(entry.etag());
+        } else if (entry.beer().getVersion() != null) {
+            headers.setIfNoneMatch("\"" + entry.beer().getVersion() + "\"");
+        }
+        if (entry.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified());
+        }
+        return headers;
+    }
+
+    /**
+     * Stores a beer written to the server and returns it for the caller.
+     *
+     * @param headers response headers carrying {@code ETag} / {@code Last-Modified}, may be {@code null}
+     */
+    public BeerDTO put(String beerId, BeerDTO beer, HttpHeaders headers) {
+        if (isNull(beer)) {
+            cache.invalidate(beerId);
+            return null;
+        }
+        cache.put(beerId, entry(beer, headers));
+        return beer;
+    }
+
+    /**
+     * Stores a beer read from the server, unless it was invalidated since {@code generation} was captured,
+     * and returns it for the caller.
+     */
+    public BeerDTO put(String beerId, BeerDTO beer, HttpHeaders headers, long generation) {
+        if (isNull(beer)) {
+            cache.invalidate(beerId);
+            return null;
+        }
+        storeIfCurrent(beerId, entry(beer, headers), generation);
+        return beer;
+    }
+
+    /**
+     * Restarts the freshness window of an entry the server confirmed with 304 Not Modified.
+     */
+    public BeerDTO notModified(String beerId, CachedBeer entry, long generation) {
+        notModified.increment();
+        storeIfCurrent(beerId, new CachedBeer(entry.beer(), entry.etag(), entry.lastModified(), System.nanoTime()),
+                generation);
+        return entry.copy();
+    }
+
+    /**
+     * Replaces a stale entry with the full response the server sent instead of 304.
+     */
+    public BeerDTO modified(String beerId, BeerDTO beer, HttpHeaders headers, long generation) {
+        modified.increment();
+        return put(beerId, beer, headers, generation);
+    }
+
+    public void invalidate(String beerId) {
+        // bumping the generation and removing the entry as one step, so no read-side store can slip in between
+        cache.asMap().compute(beerId, (id, entry) -> {
+            invalidatedAt.put(id, writes.incrementAndGet());
+            return null;
+        });
+    }
+
+    private void storeIfCurrent(String beerId, CachedBeer entry, long generation) {
+        cache.asMap().compute(beerId, (id, current) -> generation(id) == generation ? entry : current);
+    }
+
+    private static CachedBeer entry(BeerDTO beer, HttpHeaders headers) {
+        String etag = isNull(headers) ? null : headers.getETag();
+        String lastModified = isNull(headers) ? null : headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        return new CachedBeer(beer.toBuilder().build(), etag, lastModified, System.nanoTime());
+    }
+
+    public record CachedBeer(BeerDTO beer, String etag, String lastModified, long storedAt) {
+
+        public BeerDTO copy() {
+            return beer.toBuilder().build();
+        }
+    }
+}
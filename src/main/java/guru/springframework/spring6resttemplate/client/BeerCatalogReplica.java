@@ -0,0 +1,369 @@
+package guru.springframework.spring6resttemplate.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import guru.springframework.spring6resttemplate.model.BeerStyle;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.isNull;
+
+/**
+ * In-memory copy of the whole beer catalog, indexed by id, name and style, which answers lookups by id
+ * ({@link #get}) and {@code listBeers} filters ({@link #find}).
+ * <p>
+ * The catalog is loaded page by page through {@link BeerClientImpl#listBeers(BeerQuery, java.util.function.Consumer)}.
+ * Every {@code rest.template.replica.sync-interval} only the beers updated since the newest
+ * {@code updateDate} of the previous sync are fetched ({@code updatedSince}). A full sync every
+ * {@code rest.template.replica.full-sync-interval} drops beers deleted by other clients, except those
+ * stored after it started. The replica is fresh for {@code rest.template.replica.max-staleness} after a sync
+ * started, but that bound only covers new and updated beers: an incremental sync cannot see deletions, so a
+ * beer deleted by another client may be served until the next full sync.
+ * <p>
+ * When {@code rest.template.replica.snapshot-file} is set, the catalog is written there every
+ * {@code rest.template.replica.snapshot-interval} and on shutdown. It is loaded back on startup, so a
+ * restart only needs an incremental sync.
+ * <p>
+ * Reads are lock-free. Writes are serialized so the three indexes always agree.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rest.template.replica.enabled", havingValue = "true")
+public class BeerCatalogReplica {
+
+    static final String UPDATED_SINCE = "updatedSince";
+
+    private static final Comparator<BeerDTO> BY_NAME = Comparator.comparing(BeerDTO::getBeerName,
+            Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)).thenComparing(BeerDTO::getId);
+
+    private final BeerClientImpl source;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Duration syncInterval;
+    private final Duration fullSyncInterval;
+    private final Duration maxStaleness;
+    private final int pageSize;
+    private final Path snapshotFile;
+    private final Duration snapshotInterval;
+
+    private final Map<String, BeerDTO> byId = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byName = new ConcurrentHashMap<>();
+    // holds every style from the start and is never restructured, so concurrent reads are safe
+    private final Map<BeerStyle, Set<String>> byStyle = new EnumMap<>(BeerStyle.class);
+    // when each beer was last stored, in writes since startup; guarded by writeLock
+    private final Map<String, Long> writtenAt = new HashMap<>();
+    private final Object writeLock = new Object();
+    private long writes;
+
+    private volatile LocalDateTime watermark;
+    private volatile Instant syncedAt;
+    private volatile Instant fullSyncedAt;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public BeerCatalogReplica(BeerClientImpl source,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${rest.template.replica.sync-interval}") Duration syncInterval,
+                              @Value("${rest.template.replica.full-sync-interval}") Duration fullSyncInterval,
+                              @Value("${rest.template.replica.max-staleness}") Duration maxStaleness,
+                              @Value("${rest.template.replica.page-size}") int pageSize,
+                              @Value("${rest.template.replica.snapshot-file}") String snapshotFile,
+                              @Value("${rest.template.replica.snapshot-interval}") Duration snapshotInterval) {
+        this(source, objectMapper, meterRegistry, Clock.systemUTC(), syncInterval, fullSyncInterval, maxStaleness,
+                pageSize, StringUtils.hasText(snapshotFile) ? Path.of(snapshotFile) : null, snapshotInterval);
+    }
+
+    BeerCatalogReplica(BeerClientImpl source, ObjectMapper objectMapper, MeterRegistry meterRegistry, Clock clock,
+                       Duration syncInterval, Duration fullSyncInterval, Duration maxStaleness, int pageSize,
+                       Path snapshotFile, Duration snapshotInterval) {
+        this.source = source;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.syncInterval = syncInterval;
+        this.fullSyncInterval = fullSyncInterval;
+        this.maxStaleness = maxStaleness;
+        this.pageSize = pageSize;
+        this.snapshotFile = snapshotFile;
+        this.snapshotInterval = snapshotInterval;
+        for (BeerStyle style : BeerStyle.values()) {
+            byStyle.put(style, ConcurrentHashMap.newKeySet());
+        }
+        Gauge.builder("beer.client.replica.beers", byId, Map::size)
+                .description("Beers held by the local catalog replica")
+                .register(meterRegistry);
+        Gauge.builder("beer.client.replica.age", this, replica -> isNull(replica.syncedAt) ? Double.NaN
+                        : Duration.between(replica.syncedAt, replica.clock.instant()).toMillis() / 1000.0)
+                .baseUnit("seconds")
+                .description("Time since the last completed sync started")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        loadSnapshot();
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("beer-catalog-replica").factory());
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, 0, syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (snapshotFile != null) {
+            scheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotInterval.toMillis(),
+                    snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        snapshotQuietly();
+    }
+
+    /**
+     * Whether the last sync started no longer than {@code rest.template.replica.max-staleness} ago. Beers
+     * deleted by other clients since the last full sync may still be held.
+     */
+    public boolean isFresh() {
+        Instant synced = syncedAt;
+        return synced != null && !clock.instant().isAfter(synced.plus(maxStaleness));
+    }
+
+    /**
+     * @return a copy of the beer, or {@code null} if the replica does not hold it
+     */
+    public BeerDTO get(String beerId) {
+        BeerDTO beer = byId.get(beerId);
+        return isNull(beer) ? null : beer.toBuilder().build();
+    }
+
+    /**
+     * Beers whose name equals {@code beerName}, ignoring case.
+     */
+    public List<BeerDTO> findByName(String beerName) {
+        return copies(byName.getOrDefault(normalize(beerName), Set.of()));
+    }
+
+    public List<BeerDTO> findByStyle(BeerStyle beerStyle) {
+        return copies(byStyle.get(beerStyle));
+    }
+
+    /**
+     * The beers a {@code listBeers} call would return: names containing {@code beerName} and the given style,
+     * ignoring case, sorted by name. A {@code null} argument matches every beer.
+     */
+    public List<BeerDTO> find(String beerName, BeerStyle beerStyle) {
+        Collection<String> beerIds;
+        if (beerName == null) {
+            beerIds = beerStyle == null ? byId.keySet() : byStyle.get(beerStyle);
+        } else {
+            String name = normalize(beerName);
+            Set<String> named = new HashSet<>();
+            byName.forEach((indexedName, ids) -> {
+                if (indexedName.contains(name)) {
+                    named.addAll(ids);
+                }
+            });
+            if (beerStyle != null) {
+                named.retainAll(byStyle.get(beerStyle));
+            }
+            beerIds = named;
+        }
+        // the indexes may be updated while they are read, so each copy is checked again
+        return copies(beerIds).stream()
+                .filter(beer -> beerStyle == null || beerStyle == beer.getBeerStyle())
+                .filter(beer -> beerName == null
+                        || beer.getBeerName() != null && normalize(beer.getBeerName()).contains(normalize(beerName)))
+                .sorted(BY_NAME)
+                .toList();
+    }
+
+    /**
+     * Fetches the beers updated since the last sync, or the whole catalog when a full sync is due.
+     */
+    public synchronized void sync() {
+        Instant started = clock.instant();
+        boolean full = isNull(watermark) || isNull(fullSyncedAt) || !started.isBefore(fullSyncedAt.plus(fullSyncInterval));
+
+        BeerQuery query = BeerQuery.builder().pageSize(pageSize).updatedSince(full ? null : watermark).build();
+        AtomicReference<LocalDateTime> newest = new AtomicReference<>(watermark);
+        Set<String> seen = new HashSet<>();
+        long writesBefore;
+        synchronized (writeLock) {
+            writesBefore = writes;
+        }
+
+        int pageNumber = 1;
+        BeerDTOPage page;
+        do {
+            page = source.listBeers(query.toBuilder().pageNumber(pageNumber).build(), beer -> {
+                if (isNull(beer) || isNull(beer.getId())) {
+                    return;
+                }
+                upsert(beer);
+                seen.add(beer.getId().toString());
+                if (beer.getUpdateDate() != null) {
+                    newest.accumulateAndGet(beer.getUpdateDate(),
+                            (current, updated) -> isNull(current) || updated.isAfter(current) ? updated : current);
+                }
+            });
+        } while (++pageNumber <= page.getTotalPages());
+
+        if (full) {
+            // beers stored since the sync started (created through this client) may be missing from earlier pages
+            synchronized (writeLock) {
+                List.copyOf(byId.keySet()).stream()
+                        .filter(beerId -> !seen.contains(beerId) && writtenAt.getOrDefault(beerId, 0L) <= writesBefore)
+                        .forEach(this::remove);
+            }
+            fullSyncedAt = started;
+        }
+        watermark = newest.get();
+        syncedAt = started;
+        log.debug("{} sync of the beer catalog: {} beers received, {} held", full ? "Full" : "Incremental",
+                seen.size(), byId.size());
+    }
+
+    /**
+     * Stores a beer, unless the replica already holds a newer version of it.
+     */
+    public void upsert(BeerDTO beer) {
+        if (isNull(beer) || isNull(beer.getId())) {
+            return;
+        }
+        String beerId = beer.getId().toString();
+        synchronized (writeLock) {
+            BeerDTO previous = byId.get(beerId);
+            if (previous != null) {
+                if (previous.getVersion() != null && beer.getVersion() != null && previous.getVersion() > beer.getVersion()) {
+                    return;
+                }
+                unindex(beerId, previous);
+            }
+            byId.put(beerId, beer.toBuilder().build());
+            writtenAt.put(beerId, ++writes);
+            if (beer.getBeerName() != null) {
+                byName.computeIfAbsent(normalize(beer.getBeerName()), name -> ConcurrentHashMap.newKeySet()).add(beerId);
+            }
+            if (beer.getBeerStyle() != null) {
+                byStyle.get(beer.getBeerStyle()).add(beerId);
+            }
+        }
+    }
+
+    public void remove(String beerId) {
+        synchronized (writeLock) {
+            BeerDTO previous = byId.remove(beerId);
+            writtenAt.remove(beerId);
+            if (previous != null) {
+                unindex(beerId, previous);
+            }
+        }
+    }
+
+    private void unindex(String beerId, BeerDTO beer) {
+        if (beer.getBeerName() != null) {
+            byName.computeIfPresent(normalize(beer.getBeerName()), (name, ids) -> {
+                ids.remove(beerId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        if (beer.getBeerStyle() != null) {
+            byStyle.get(beer.getBeerStyle()).remove(beerId);
+        }
+    }
+
+    private List<BeerDTO> copies(Collection<String> beerIds) {
+        return beerIds.stream().map(this::get).filter(beer -> !isNull(beer)).toList();
+    }
+
+    private static String normalize(String beerName) {
+        return beerName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Beer catalog sync failed, serving from the remote service until the next one", e);
+        }
+    }
+
+    void snapshot() throws IOException {
+        if (snapshotFile == null || isNull(syncedAt)) {
+            return;
+        }
+        Snapshot snapshot;
+        synchronized (writeLock) {
+            snapshot = new Snapshot(watermark, syncedAt, fullSyncedAt, List.copyOf(byId.values()));
+        }
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            objectMapper.writeValue(temporary.toFile(), snapshot);
+            Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write the beer catalog snapshot to {}", snapshotFile, e);
+        }
+    }
+
+    void loadSnapshot() {
+        if (snapshotFile == null || !Files.isRegularFile(snapshotFile)) {
+            return;
+        }
+        try {
+            Snapshot snapshot = objectMapper.readValue(snapshotFile.toFile(), Snapshot.class);
+            snapshot.beers().forEach(this::upsert);
+            watermark = snapshot.watermark();
+            syncedAt = snapshot.syncedAt();
+            fullSyncedAt = snapshot.fullSyncedAt();
+            log.info("Loaded {} beers from the catalog snapshot {}", byId.size(), snapshotFile);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable beer catalog snapshot {}", snapshotFile, e);
+        }
+    }
+
+    record Snapshot(LocalDateTime watermark, Instant syncedAt, Instant fullSyncedAt, List<BeerDTO> beers) {
+    }
+}
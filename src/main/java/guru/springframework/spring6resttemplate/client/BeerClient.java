@@ -4,6 +4,7 @@ import guru.springframework.spring6resttemplate.model.BeerDTO;
 import guru.springframework.spring6resttemplate.model.BeerDTOPage;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * @author john
@@ -12,8 +13,33 @@ import java.util.Map;
 public interface BeerClient {
     BeerDTOPage listBeers();
     BeerDTOPage listBeers(Map<String, String> parameters);
+    BeerDTOPage listBeers(BeerQuery query);
+
+    /**
+     * Streams the beers of one page to {@code consumer} while the response is parsed.
+     *
+     * @return the page metadata, with an empty beer list
+     */
+    BeerDTOPage listBeers(Map<String, String> parameters, Consumer<BeerDTO> consumer);
+
+    /**
+     * Like {@link #listBeers(Map, Consumer)}, for a typed query.
+     */
+    BeerDTOPage listBeers(BeerQuery query, Consumer<BeerDTO> consumer);
     BeerDTO getBeerById(String beerId);
     BeerDTO createBeer(BeerDTO newBeer);
+
+    /**
+     * Replaces a beer and returns it as updated. The beer in the PUT response is used when the server
+     * sends one; otherwise it is read back with an unconditional GET, to pick up the fields the server stamped.
+     */
     BeerDTO updateBeer(String beerId, BeerDTO beer);
+
+    /**
+     * Replaces a beer like {@link #updateBeer} but never reads the updated beer back.
+     *
+     * @return the new beer version, from the PUT response body or {@code ETag}, or {@code null} if it carried neither
+     */
+    Integer replaceBeer(String beerId, BeerDTO beer);
     void deleteBeer(String beerId);
 }
@@ -1,87 +1,188 @@
 package guru.springframework.spring6resttemplate.client;
 
+import guru.springframework.spring6resttemplate.client.BeerCache.CachedBeer;
 import guru.springframework.spring6resttemplate.model.BeerDTO;
 import guru.springframework.spring6resttemplate.model.BeerDTOPage;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * @author john
  * @since 13/08/2024
  */
-@Slf4j
 @RequiredArgsConstructor
 @Service
 public class BeerClientImpl implements BeerClient {
 
-    private final RestTemplateBuilder restTemplateBuilder;
+    private final RestTemplate restTemplate;
+    private final BeerJsonCodec beerJsonCodec;
+    private final BeerCache beerCache;
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+    private volatile BeerQueryTemplate listBeersTemplate;
 
 
     @Override
     public BeerDTOPage listBeers() {
-        return listBeers(new HashMap<>());
+        return listBeers(BeerQuery.ALL);
     }
 
     @Override
     public BeerDTOPage listBeers(Map<String, String> parameters) {
-        RestTemplate restTemplate = restTemplateBuilder.build();
+        return listBeers(BeerQuery.from(parameters));
+    }
 
-        UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUri(URI.create("beer"));
-        if (parameters.containsKey("beerName"))
-            uriComponentsBuilder.queryParam("beerName", parameters.get("beerName"));
-        if (parameters.containsKey("beerStyle"))
-            uriComponentsBuilder.queryParam("beerStyle", parameters.get("beerStyle"));
-        if (parameters.containsKey("pageNumber"))
-            uriComponentsBuilder.queryParam("pageNumber", parameters.get("pageNumber"));
-        if (parameters.containsKey("pageSize"))
-            uriComponentsBuilder.queryParam("pageSize", parameters.get("pageSize"));
+    @Override
+    public BeerDTOPage listBeers(BeerQuery query) {
+        String uri = listBeersTemplate().expand(query);
 
+        // a call after a write never joins a listing sent before it
+        return requestCoalescer.execute(uri + "#" + beerCache.writes(),
+                () -> restTemplate.getForObject(URI.create(uri), BeerDTOPage.class), BeerClientImpl::copyOf);
+    }
 
-        log.info("GET request to: {}", uriComponentsBuilder.toUriString());
+    private static BeerDTOPage copyOf(BeerDTOPage page) {
+        List<BeerDTO> beers = null;
+        if (page.getBeers() != null) {
+            beers = new ArrayList<>(page.getBeers().size());
+            for (BeerDTO beer : page.getBeers()) {
+                beers.add(beer == null ? null : beer.toBuilder().build());
+            }
+        }
+        return new BeerDTOPage(page.getPageNumber(), page.getPageSize(), page.getTotalPages(), page.getTotalElements(), beers);
+    }
 
-        ResponseEntity<BeerDTOPage> pageResponseEntity = restTemplate.getForEntity(uriComponentsBuilder.toUriString(), BeerDTOPage.class);
-        log.info("Total Pages: {}", pageResponseEntity.getBody().getTotalPages());
-        log.info("Total Elements: {}", pageResponseEntity.getBody().getTotalElements());
+    @Override
+    public BeerDTOPage listBeers(Map<String, String> parameters, Consumer<BeerDTO> consumer) {
+        return listBeers(BeerQuery.from(parameters), consumer);
+    }
+
+    @Override
+    public BeerDTOPage listBeers(BeerQuery query, Consumer<BeerDTO> consumer) {
+        return restTemplate.execute(URI.create(listBeersTemplate().expand(query)), HttpMethod.GET, beerJsonCodec.pageRequest(),
+                response -> beerJsonCodec.readPage(response.getBody(), response.getHeaders().getContentType(), consumer));
+    }
 
-        return pageResponseEntity.getBody();
+    /**
+     * The list URI is expanded against the root URL once; requests then pass an absolute {@link URI},
+     * which the RestTemplate sends without parsing it as a template again.
+     */
+    private BeerQueryTemplate listBeersTemplate() {
+        BeerQueryTemplate template = listBeersTemplate;
+        if (template == null) {
+            template = new BeerQueryTemplate(restTemplate.getUriTemplateHandler().expand("beer").toString());
+            listBeersTemplate = template;
+        }
+        return template;
     }
 
     @Override
     public BeerDTO getBeerById(String beerId) {
-        RestTemplate restTemplate = restTemplateBuilder.build();
-        log.info("GET request to: {}", "beer/" + beerId);
-        return restTemplate.getForObject("beer/{beerId}", BeerDTO.class, beerId);
+        long generation = beerCache.generation(beerId);
+        CachedBeer cached = beerCache.get(beerId);
+        if (cached != null && beerCache.isFresh(cached)) {
+            return cached.copy();
+        }
+
+        // keyed by generation too, so a call after a write never joins a GET sent before it
+        return requestCoalescer.execute("beer/" + beerId + "#" + generation,
+                () -> fetchBeer(beerId, cached, generation), beer -> beer.toBuilder().build());
+    }
+
+    /**
+     * @param generation the cache generation of the beer before the request, see {@link BeerCache#generation}
+     */
+    private BeerDTO fetchBeer(String beerId, CachedBeer cached, long generation) {
+        ResponseEntity<BeerDTO> response = restTemplate.exchange("beer/{beerId}", HttpMethod.GET,
+                new HttpEntity<>(beerCache.conditionalHeaders(cached)), BeerDTO.class, beerId);
+
+        if (cached == null) {
+            return beerCache.put(beerId, response.getBody(), response.getHeaders(), generation);
+        }
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return beerCache.notModified(beerId, cached, generation);
+        }
+        return beerCache.modified(beerId, response.getBody(), response.getHeaders(), generation);
     }
 
     @Override
     public BeerDTO createBeer(BeerDTO newBeer) {
-        RestTemplate restTemplate = restTemplateBuilder.build();
-        log.info("POST request to: {}", "beer");
-        return restTemplate.postForObject("beer", newBeer, BeerDTO.class);
+        BeerDTO createdBeer = restTemplate.execute("beer", HttpMethod.POST,
+                beerJsonCodec.beerRequest(newBeer), beerJsonCodec.beerResponse());
+        if (createdBeer != null && createdBeer.getId() != null) {
+            // moves listings on to a new coalescing key
+            beerCache.invalidate(createdBeer.getId().toString());
+            beerCache.put(createdBeer.getId().toString(), createdBeer, null);
+        }
+        return createdBeer;
     }
 
     @Override
     public BeerDTO updateBeer(String beerId, BeerDTO beer) {
-        RestTemplate restTemplate = restTemplateBuilder.build();
-        log.info("PUT request to: {}", "beer/" + beerId);
-        restTemplate.put("beer/{beerId}", beer, beerId);
-        return getBeerById(beerId);
+        ResponseEntity<BeerDTO> response = putBeer(beerId, beer);
+        if (response.getBody() != null) {
+            return beerCache.put(beerId, response.getBody(), response.getHeaders());
+        }
+
+        // not coalesced with GETs that may have been sent before the PUT, and not conditional: the server
+        // may have stamped fields (version, update date) that the beer as sent does not have
+        return fetchBeer(beerId, null, beerCache.generation(beerId));
+    }
+
+    @Override
+    public Integer replaceBeer(String beerId, BeerDTO beer) {
+        ResponseEntity<BeerDTO> response = putBeer(beerId, beer);
+        if (response.getBody() != null) {
+            beerCache.put(beerId, response.getBody(), response.getHeaders());
+            return response.getBody().getVersion();
+        }
+        return versionOf(response.getHeaders().getETag());
+    }
+
+    private ResponseEntity<BeerDTO> putBeer(String beerId, BeerDTO beer) {
+        beerCache.invalidate(beerId);
+        try {
+            return restTemplate.execute("beer/{beerId}", HttpMethod.PUT, beerJsonCodec.beerRequest(beer),
+                    beerJsonCodec.beerEntityResponse(), beerId);
+        } finally {
+            // again once the PUT is done: a GET sent while it was in flight may have read the old beer
+            beerCache.invalidate(beerId);
+        }
+    }
+
+    /**
+     * The beer version carried by an entity tag such as {@code "3"} or {@code W/"3"}, if it is one.
+     */
+    private static Integer versionOf(String etag) {
+        if (etag == null) {
+            return null;
+        }
+        String value = etag.startsWith("W/") ? etag.substring(2) : etag;
+        value = value.replace("\"", "");
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     @Override
     public void deleteBeer(String beerId) {
-        RestTemplate restTemplate = restTemplateBuilder.build();
-        log.info("DELETE request to: {}", "beer/" + beerId);
-        restTemplate.delete("beer/{beerId}", beerId);
+        try {
+            restTemplate.delete("beer/{beerId}", beerId);
+        } finally {
+            beerCache.invalidate(beerId);
+        }
     }
 
 
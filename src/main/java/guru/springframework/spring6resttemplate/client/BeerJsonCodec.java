@@ -0,0 +1,189 @@
+package guru.springframework.spring6resttemplate.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import guru.springframework.spring6resttemplate.config.TimedMappingJackson2HttpMessageConverter;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reads and writes beer payloads with cached Jackson readers and writers, bypassing the message converter
+ * chain and its content negotiation on every call.
+ * <p>
+ * With {@code rest.template.smile.enabled}, streamed pages are requested as Smile first and parsed in
+ * whichever format the server answered with. Single beers and request bodies stay JSON.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Component
+public class BeerJsonCodec {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final List<MediaType> ACCEPT_JSON = List.of(MediaType.APPLICATION_JSON);
+    private static final List<MediaType> ACCEPT_SMILE_OR_JSON = List.of(APPLICATION_SMILE, MediaType.APPLICATION_JSON);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final ObjectReader beerReader;
+    private final ObjectWriter beerWriter;
+    private final Timer readTimer;
+    private final Timer smileReadTimer;
+    private final Timer writeTimer;
+    private final List<MediaType> acceptPage;
+    private final ResponseExtractor<BeerDTO> beerExtractor = this::readBeer;
+    private final ResponseExtractor<ResponseEntity<BeerDTO>> beerEntityExtractor = response ->
+            new ResponseEntity<>(readBeer(response), response.getHeaders(), response.getStatusCode());
+
+    public BeerJsonCodec(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(objectMapper, meterRegistry, false);
+    }
+
+    @Autowired
+    public BeerJsonCodec(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                         @Value("${rest.template.smile.enabled}") boolean smileEnabled) {
+        this.objectMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.beerReader = objectMapper.readerFor(BeerDTO.class);
+        // the request body stream belongs to the RestTemplate, which closes it itself
+        this.beerWriter = objectMapper.writerFor(BeerDTO.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.readTimer = TimedMappingJackson2HttpMessageConverter.jsonTimer(meterRegistry, "read");
+        this.smileReadTimer = TimedMappingJackson2HttpMessageConverter.jsonTimer(meterRegistry, "smile", "read");
+        this.writeTimer = TimedMappingJackson2HttpMessageConverter.jsonTimer(meterRegistry, "write");
+        this.acceptPage = smileEnabled ? ACCEPT_SMILE_OR_JSON : ACCEPT_JSON;
+    }
+
+    /**
+     * Asks for a page in the preferred wire format, to be read with {@link #readPage(InputStream, MediaType, Consumer)}.
+     */
+    public RequestCallback pageRequest() {
+        return request -> request.getHeaders().setAccept(acceptPage);
+    }
+
+    /**
+     * Writes {@code beer} as the JSON request body, serializing straight into the request's body stream.
+     */
+    public RequestCallback beerRequest(BeerDTO beer) {
+        return request -> {
+            request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.getHeaders().setAccept(ACCEPT_JSON);
+            long start = System.nanoTime();
+            try {
+                beerWriter.writeValue(request.getBody(), beer);
+            } finally {
+                writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /**
+     * Reads a {@link BeerDTO} response body, or {@code null} if the response has none.
+     */
+    public ResponseExtractor<BeerDTO> beerResponse() {
+        return beerExtractor;
+    }
+
+    /**
+     * Like {@link #beerResponse()}, keeping the status and headers; the body is {@code null} if the response has none.
+     */
+    public ResponseExtractor<ResponseEntity<BeerDTO>> beerEntityResponse() {
+        return beerEntityExtractor;
+    }
+
+    private BeerDTO readBeer(ClientHttpResponse response) throws IOException {
+        long start = System.nanoTime();
+        try (JsonParser parser = beerReader.createParser(response.getBody())) {
+            return parser.nextToken() == null ? null : beerReader.readValue(parser);
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Parses a {@link BeerDTOPage} incrementally, handing each element of {@code content} to
+     * {@code consumer} as soon as it is read so the page is never held in memory as a whole.
+     *
+     * @return the page metadata; its beer list is always empty
+     */
+    public BeerDTOPage readPage(InputStream body, Consumer<BeerDTO> consumer) throws IOException {
+        return readPage(body, MediaType.APPLICATION_JSON, consumer);
+    }
+
+    /**
+     * Like {@link #readPage(InputStream, Consumer)}, for a body in Smile when {@code contentType} says so
+     * and in JSON otherwise.
+     */
+    public BeerDTOPage readPage(InputStream body, MediaType contentType, Consumer<BeerDTO> consumer) throws IOException {
+        boolean smile = APPLICATION_SMILE.isCompatibleWith(contentType);
+        long start = System.nanoTime();
+        try {
+            return readPageContent((smile ? smileMapper : objectMapper).createParser(body), consumer);
+        } finally {
+            // includes the time spent in the consumer, which runs while the page is parsed
+            (smile ? smileReadTimer : readTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private BeerDTOPage readPageContent(JsonParser pageParser, Consumer<BeerDTO> consumer) throws IOException {
+        int pageNumber = 0;
+        int pageSize = 0;
+        int totalPages = 0;
+        int totalElements = 0;
+
+        try (JsonParser parser = pageParser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(parser, BeerDTOPage.class, "Expected a JSON object for a beer page");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "pageNumber" -> pageNumber = parser.getValueAsInt();
+                    case "pageSize" -> pageSize = parser.getValueAsInt();
+                    case "totalPages" -> totalPages = parser.getValueAsInt();
+                    case "totalElements" -> totalElements = parser.getValueAsInt();
+                    case "content" -> readContent(parser, consumer);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new BeerDTOPage(pageNumber, pageSize, totalPages, totalElements, List.of());
+    }
+
+    private void readContent(JsonParser parser, Consumer<BeerDTO> consumer) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == JsonToken.START_OBJECT) {
+                consumer.accept(beerReader.readValue(parser));
+            } else if (token != JsonToken.VALUE_NULL) {
+                throw MismatchedInputException.from(parser, BeerDTO.class, "Expected a beer object or null in page content");
+            }
+        }
+    }
+}
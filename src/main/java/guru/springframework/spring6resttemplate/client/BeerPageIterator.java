@@ -0,0 +1,109 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Walks every page of a beer listing in order while keeping up to {@code window} of the following
+ * pages in flight. A new page is only requested when the consumer moves past one, so a slow
+ * consumer never has more than {@code window} pages buffered.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+class BeerPageIterator implements Iterator<BeerDTO>, AutoCloseable {
+
+    private final IntFunction<Future<BeerDTOPage>> pageFetcher;
+    private final Deque<Future<BeerDTOPage>> prefetched = new ArrayDeque<>();
+    private final int window;
+    private final int totalPages;
+    private int nextPageNumber;
+    private Iterator<BeerDTO> current;
+
+    /**
+     * @param pageFetcher fetches the page with the given 1-based page number
+     * @param window      maximum number of pages requested ahead of the consumer
+     */
+    BeerPageIterator(IntFunction<Future<BeerDTOPage>> pageFetcher, int window) {
+        this.pageFetcher = pageFetcher;
+        this.window = window;
+
+        BeerDTOPage firstPage = await(pageFetcher.apply(1));
+        this.totalPages = firstPage.getTotalPages();
+        this.current = beersOf(firstPage);
+        this.nextPageNumber = 2;
+        fillWindow();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            Future<BeerDTOPage> nextPage = prefetched.poll();
+            if (nextPage == null) {
+                return false;
+            }
+            fillWindow();
+            current = beersOf(await(nextPage));
+        }
+        return true;
+    }
+
+    @Override
+    public BeerDTO next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Cancels pages that were prefetched but not consumed. Their threads are interrupted: a page still
+     * waiting for a permit is never requested, and one on the wire is aborted if the transport honours
+     * interrupts (the JDK client does; Apache HttpClient finishes the exchange and its page is dropped).
+     */
+    @Override
+    public void close() {
+        prefetched.forEach(page -> page.cancel(true));
+        prefetched.clear();
+        nextPageNumber = totalPages + 1;
+    }
+
+    private void fillWindow() {
+        while (prefetched.size() < window && nextPageNumber <= totalPages) {
+            prefetched.add(pageFetcher.apply(nextPageNumber++));
+        }
+    }
+
+    /**
+     * The beers of the page without {@code null} elements, which the stream built on this iterator promises.
+     */
+    private static Iterator<BeerDTO> beersOf(BeerDTOPage page) {
+        return page.getBeers() == null ? Collections.emptyIterator()
+                : page.getBeers().stream().filter(Objects::nonNull).iterator();
+    }
+
+    private static BeerDTOPage await(Future<BeerDTOPage> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+}
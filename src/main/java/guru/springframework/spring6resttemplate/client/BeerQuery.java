@@ -0,0 +1,54 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerStyle;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Filter and paging of a {@code listBeers} call. Every component is optional and left out of the
+ * query string when {@code null}.
+ *
+ * @param updatedSince only beers updated after this time, used by {@link BeerCatalogReplica} for delta syncs
+ * @author john
+ * @since 18/10/2026
+ */
+@Builder(toBuilder = true)
+public record BeerQuery(String beerName, BeerStyle beerStyle, Integer pageNumber, Integer pageSize,
+                        LocalDateTime updatedSince) {
+
+    public static final BeerQuery ALL = BeerQuery.builder().build();
+
+    /**
+     * Reads the query from the string parameters accepted by {@link BeerClient#listBeers(Map)}. The style is
+     * matched ignoring case.
+     *
+     * @throws IllegalArgumentException naming the parameter whose value cannot be parsed
+     */
+    public static BeerQuery from(Map<String, String> parameters) {
+        if (parameters.isEmpty()) {
+            return ALL;
+        }
+        return new BeerQuery(parameters.get("beerName"),
+                parse(parameters, "beerStyle", value -> BeerStyle.valueOf(value.trim().toUpperCase(Locale.ROOT))),
+                parse(parameters, "pageNumber", Integer::valueOf),
+                parse(parameters, "pageSize", Integer::valueOf),
+                parse(parameters, BeerCatalogReplica.UPDATED_SINCE, LocalDateTime::parse));
+    }
+
+    private static <T> T parse(Map<String, String> parameters, String name, Function<String, T> parser) {
+        String value = parameters.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + " parameter: '" + value + "'", e);
+        }
+    }
+}
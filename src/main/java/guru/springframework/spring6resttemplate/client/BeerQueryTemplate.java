@@ -0,0 +1,61 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerStyle;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Precompiled {@code beer} list URI. The absolute base URI is expanded once, and the {@code beerStyle}
+ * fragments are encoded once per style. A {@link BeerQuery} is then appended to a single
+ * {@link StringBuilder}, and only a beer name needs encoding per call.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public final class BeerQueryTemplate {
+
+    private final String baseUri;
+    private final Map<BeerStyle, String> styleValues = new EnumMap<>(BeerStyle.class);
+
+    public BeerQueryTemplate(String baseUri) {
+        this.baseUri = baseUri;
+        for (BeerStyle style : BeerStyle.values()) {
+            styleValues.put(style, UriUtils.encodeQueryParam(style.name(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * @return the encoded absolute URI of the query
+     */
+    public String expand(BeerQuery query) {
+        if (query == BeerQuery.ALL) {
+            return baseUri;
+        }
+        StringBuilder uri = new StringBuilder(baseUri.length() + 96).append(baseUri);
+        char separator = '?';
+        if (query.beerName() != null) {
+            uri.append(separator).append("beerName=").append(UriUtils.encodeQueryParam(query.beerName(), StandardCharsets.UTF_8));
+            separator = '&';
+        }
+        if (query.beerStyle() != null) {
+            uri.append(separator).append("beerStyle=").append(styleValues.get(query.beerStyle()));
+            separator = '&';
+        }
+        if (query.pageNumber() != null) {
+            uri.append(separator).append("pageNumber=").append(query.pageNumber().intValue());
+            separator = '&';
+        }
+        if (query.pageSize() != null) {
+            uri.append(separator).append("pageSize=").append(query.pageSize().intValue());
+            separator = '&';
+        }
+        if (query.updatedSince() != null) {
+            // ISO-8601 local date-times only contain characters that are legal in a query
+            uri.append(separator).append(BeerCatalogReplica.UPDATED_SINCE).append('=').append(query.updatedSince());
+        }
+        return uri.toString();
+    }
+}
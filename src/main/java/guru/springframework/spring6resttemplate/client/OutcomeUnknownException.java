@@ -0,0 +1,16 @@
+package guru.springframework.spring6resttemplate.client;
+
+/**
+ * A non-idempotent write was sent but its response did not arrive in time, so the server may or may not
+ * have applied it. Unlike a {@link java.util.concurrent.TimeoutException}, this is not safe to retry blindly:
+ * check whether the write took effect first.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public class OutcomeUnknownException extends Exception {
+
+    public OutcomeUnknownException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * {@link BeerClient} on a non-blocking HTTP stack, for callers running on an event loop.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public interface ReactiveBeerClient {
+    Mono<BeerDTOPage> listBeers();
+    Mono<BeerDTOPage> listBeers(Map<String, String> parameters);
+
+    /**
+     * Streams every beer matching {@code filters}, page by page in order. Pages are requested as
+     * downstream demand reaches them, with up to {@code rest.template.async.prefetch-window} in flight.
+     */
+    Flux<BeerDTO> listAll(Map<String, String> filters);
+    Mono<BeerDTO> getBeerById(String beerId);
+    Mono<BeerDTO> createBeer(BeerDTO newBeer);
+    Mono<BeerDTO> updateBeer(String beerId, BeerDTO beer);
+    Mono<Void> deleteBeer(String beerId);
+}
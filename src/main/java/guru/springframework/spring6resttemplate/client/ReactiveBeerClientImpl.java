@@ -0,0 +1,140 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.config.BeerOperation;
+import guru.springframework.spring6resttemplate.config.ResilienceProperties;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+@Service
+public class ReactiveBeerClientImpl implements ReactiveBeerClient {
+
+    private static final List<String> LIST_PARAMETERS = List.of("beerName", "beerStyle", "pageNumber", "pageSize");
+
+    private final WebClient webClient;
+    private final int prefetchWindow;
+    private final Consumer<ClientHttpRequest>[] responseTimeouts;
+
+    @SuppressWarnings("unchecked")
+    public ReactiveBeerClientImpl(WebClient beerWebClient,
+                                  ResilienceProperties resilienceProperties,
+                                  @Value("${rest.template.async.prefetch-window}") int prefetchWindow) {
+        this.webClient = beerWebClient;
+        this.prefetchWindow = prefetchWindow;
+        this.responseTimeouts = new Consumer[BeerOperation.values().length];
+        for (BeerOperation operation : BeerOperation.values()) {
+            var readTimeout = resilienceProperties.timeouts(operation).readTimeout();
+            responseTimeouts[operation.ordinal()] =
+                    request -> request.<HttpClientRequest>getNativeRequest().responseTimeout(readTimeout);
+        }
+    }
+
+    @Override
+    public Mono<BeerDTOPage> listBeers() {
+        return listBeers(Map.of());
+    }
+
+    @Override
+    public Mono<BeerDTOPage> listBeers(Map<String, String> parameters) {
+        return webClient.get()
+                .uri(uriBuilder -> listBeersUri(uriBuilder, parameters))
+                .httpRequest(responseTimeout(BeerOperation.LIST_BEERS))
+                .retrieve()
+                .bodyToMono(BeerDTOPage.class)
+                .doOnNext(page -> log.debug("Page {} of {}", page.getPageNumber(), page.getTotalPages()));
+    }
+
+    @Override
+    public Flux<BeerDTO> listAll(Map<String, String> filters) {
+        return listBeers(withPageNumber(filters, 1)).flatMapMany(firstPage -> Flux.concat(
+                beersOf(firstPage),
+                Flux.range(2, Math.max(0, firstPage.getTotalPages() - 1))
+                        // flatMapSequential keeps page order and only asks for more page numbers as pages drain
+                        .flatMapSequential(pageNumber -> listBeers(withPageNumber(filters, pageNumber)), prefetchWindow, 1)
+                        .concatMap(ReactiveBeerClientImpl::beersOf)));
+    }
+
+    @Override
+    public Mono<BeerDTO> getBeerById(String beerId) {
+        return webClient.get()
+                .uri("beer/{beerId}", beerId)
+                .httpRequest(responseTimeout(BeerOperation.GET_BEER_BY_ID))
+                .retrieve()
+                .bodyToMono(BeerDTO.class);
+    }
+
+    @Override
+    public Mono<BeerDTO> createBeer(BeerDTO newBeer) {
+        return webClient.post()
+                .uri("beer")
+                .httpRequest(responseTimeout(BeerOperation.CREATE_BEER))
+                .bodyValue(newBeer)
+                .retrieve()
+                .bodyToMono(BeerDTO.class);
+    }
+
+    @Override
+    public Mono<BeerDTO> updateBeer(String beerId, BeerDTO beer) {
+        return webClient.put()
+                .uri("beer/{beerId}", beerId)
+                .httpRequest(responseTimeout(BeerOperation.UPDATE_BEER))
+                .bodyValue(beer)
+                .retrieve()
+                .bodyToMono(BeerDTO.class)
+                // read back only when the server answered without the updated beer
+                .switchIfEmpty(Mono.defer(() -> getBeerById(beerId)));
+    }
+
+    @Override
+    public Mono<Void> deleteBeer(String beerId) {
+        return webClient.delete()
+                .uri("beer/{beerId}", beerId)
+                .httpRequest(responseTimeout(BeerOperation.DELETE_BEER))
+                .retrieve()
+                .toBodilessEntity()
+                .then();
+    }
+
+    private Consumer<ClientHttpRequest> responseTimeout(BeerOperation operation) {
+        return responseTimeouts[operation.ordinal()];
+    }
+
+    private static URI listBeersUri(UriBuilder uriBuilder, Map<String, String> parameters) {
+        uriBuilder.path("beer");
+        for (String name : LIST_PARAMETERS) {
+            if (parameters.containsKey(name)) {
+                uriBuilder.queryParam(name, parameters.get(name));
+            }
+        }
+        return uriBuilder.build();
+    }
+
+    private static Map<String, String> withPageNumber(Map<String, String> filters, int pageNumber) {
+        Map<String, String> parameters = new HashMap<>(filters);
+        parameters.put("pageNumber", String.valueOf(pageNumber));
+        return parameters;
+    }
+
+    private static Flux<BeerDTO> beersOf(BeerDTOPage page) {
+        return page.getBeers() == null ? Flux.empty() : Flux.fromIterable(page.getBeers());
+    }
+}
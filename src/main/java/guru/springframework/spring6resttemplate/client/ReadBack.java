@@ -0,0 +1,22 @@
+package guru.springframework.spring6resttemplate.client;
+
+/**
+ * When a batch update reads the updated beers back from the server.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public enum ReadBack {
+    /**
+     * Each beer is read back as soon as its update completes, as {@link BeerClient#updateBeer} does.
+     */
+    IMMEDIATE,
+    /**
+     * All updates are sent first; the updated beers are then read back in one batch read.
+     */
+    DEFERRED,
+    /**
+     * Nothing is read back; each result is the beer as it was sent, with the new version when the server reports it.
+     */
+    NONE
+}
@@ -0,0 +1,127 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * {@link BeerClient} that answers {@link #getBeerById}, and {@code listBeers} calls filtering by name or style,
+ * from the {@link BeerCatalogReplica} while the replica is fresh, and goes to {@link BeerClientImpl} for
+ * everything else. Pages are cut from the matching beers sorted by name, {@value #DEFAULT_PAGE_SIZE} to a page
+ * unless {@code pageSize} says otherwise. Writes go to the remote service first and are then applied to the replica.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Primary
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rest.template.replica.enabled", havingValue = "true")
+public class ReplicaBeerClient implements BeerClient {
+
+    static final int DEFAULT_PAGE_SIZE = 25;
+
+    private final BeerClientImpl beerClient;
+    private final BeerCatalogReplica replica;
+
+    @Override
+    public BeerDTOPage listBeers() {
+        return beerClient.listBeers();
+    }
+
+    @Override
+    public BeerDTOPage listBeers(Map<String, String> parameters) {
+        return listBeers(BeerQuery.from(parameters));
+    }
+
+    @Override
+    public BeerDTOPage listBeers(BeerQuery query) {
+        BeerDTOPage page = fromReplica(query);
+        return page != null ? page : beerClient.listBeers(query);
+    }
+
+    @Override
+    public BeerDTOPage listBeers(Map<String, String> parameters, Consumer<BeerDTO> consumer) {
+        return listBeers(BeerQuery.from(parameters), consumer);
+    }
+
+    @Override
+    public BeerDTOPage listBeers(BeerQuery query, Consumer<BeerDTO> consumer) {
+        BeerDTOPage page = fromReplica(query);
+        if (page == null) {
+            return beerClient.listBeers(query, consumer);
+        }
+        page.getBeers().forEach(consumer);
+        return new BeerDTOPage(page.getPageNumber(), page.getPageSize(), page.getTotalPages(), page.getTotalElements(),
+                List.of());
+    }
+
+    /**
+     * @return the page, or {@code null} if the query is not a name or style lookup the fresh replica can answer
+     */
+    private BeerDTOPage fromReplica(BeerQuery query) {
+        boolean lookup = query.beerName() != null || query.beerStyle() != null;
+        if (!lookup || query.updatedSince() != null || !replica.isFresh()) {
+            return null;
+        }
+        List<BeerDTO> beers = replica.find(query.beerName(), query.beerStyle());
+        int pageNumber = query.pageNumber() == null ? 1 : Math.max(1, query.pageNumber());
+        int pageSize = query.pageSize() == null ? DEFAULT_PAGE_SIZE : Math.max(1, query.pageSize());
+        int from = (int) Math.min(beers.size(), (long) (pageNumber - 1) * pageSize);
+        int to = Math.min(beers.size(), from + pageSize);
+        int totalPages = (beers.size() + pageSize - 1) / pageSize;
+        return new BeerDTOPage(pageNumber, pageSize, totalPages, beers.size(), List.copyOf(beers.subList(from, to)));
+    }
+
+    @Override
+    public BeerDTO getBeerById(String beerId) {
+        if (replica.isFresh()) {
+            BeerDTO beer = replica.get(beerId);
+            if (beer != null) {
+                return beer;
+            }
+        }
+        // not synced yet, or created since the last sync
+        return beerClient.getBeerById(beerId);
+    }
+
+    @Override
+    public BeerDTO createBeer(BeerDTO newBeer) {
+        BeerDTO createdBeer = beerClient.createBeer(newBeer);
+        replica.upsert(createdBeer);
+        return createdBeer;
+    }
+
+    @Override
+    public BeerDTO updateBeer(String beerId, BeerDTO beer) {
+        BeerDTO updatedBeer = beerClient.updateBeer(beerId, beer);
+        replica.upsert(updatedBeer);
+        return updatedBeer;
+    }
+
+    @Override
+    public Integer replaceBeer(String beerId, BeerDTO beer) {
+        try {
+            return beerClient.replaceBeer(beerId, beer);
+        } finally {
+            // the server-side fields of the new state are unknown until the next sync
+            replica.remove(beerId);
+        }
+    }
+
+    @Override
+    public void deleteBeer(String beerId) {
+        try {
+            beerClient.deleteBeer(beerId);
+        } finally {
+            replica.remove(beerId);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package guru.springframework.spring6resttemplate.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Single-flight execution of identical reads: while a call for a key is in flight, further callers
+ * with the same key wait for it instead of issuing their own request. Failures are rethrown to every
+ * waiter. Nothing is cached once the call completes.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+class RequestCoalescer {
+
+    private final ConcurrentMap<String, Call> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param key       identifies identical requests, e.g. the request URI
+     * @param call      performs the request
+     * @param forWaiter applied to the shared result for every caller that joined someone else's call,
+     *                  so mutable results are not handed to several callers
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(String key, Supplier<T> call, UnaryOperator<T> forWaiter) {
+        Call pending = new Call(new CompletableFuture<>(), new AtomicInteger());
+        Call leader = inFlight.putIfAbsent(key, pending);
+        if (leader != null) {
+            leader.waiters().incrementAndGet();
+            T shared = (T) await(leader.result());
+            return shared == null ? null : forWaiter.apply(shared);
+        }
+
+        try {
+            T result = call.get();
+            pending.result().complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            pending.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    /**
+     * @return how many callers have joined the call in flight for {@code key}, 0 if there is none
+     */
+    int waiters(String key) {
+        Call call = inFlight.get(key);
+        return call == null ? 0 : call.waiters().get();
+    }
+
+    private record Call(CompletableFuture<Object> result, AtomicInteger waiters) {
+    }
+
+    private static Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package guru.springframework.spring6resttemplate.config;
+
+import guru.springframework.spring6resttemplate.config.ResilienceProperties.LimiterSettings;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that follows the beer service's capacity: additive increase while calls are fast,
+ * multiplicative decrease when they fail or slow down.
+ * <p>
+ * Each operation keeps a baseline round trip time. The baseline follows new minimums at once and drifts
+ * slowly toward higher samples, so a lasting shift in the service's latency becomes the new normal.
+ * The limit is cut by {@code backoffRatio} for a failed call (I/O error, 429 or 5xx) or for one slower
+ * than {@code tolerance} times its baseline, unless the call started before the previous cut: a burst of
+ * failures from the same moment counts once. Every successful call grows the limit by {@code 1/limit},
+ * about one per round trip, but only while more than half of the limit is in use. A client using
+ * only a fraction of its limit learns nothing about the service's capacity.
+ * <p>
+ * Callers over the limit wait up to {@code maxWait} for a slot, then are rejected.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+class AdaptiveConcurrencyLimit {
+
+    private static final int BASELINE_DRIFT = 1_000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double tolerance;
+    private final long maxWaitNanos;
+    private final long[] baselineNanos = new long[BeerOperation.values().length];
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private long lastDecrease;
+
+    AdaptiveConcurrencyLimit(LimiterSettings settings) {
+        this.minLimit = settings.minLimit();
+        this.maxLimit = settings.maxLimit();
+        this.backoffRatio = settings.backoffRatio();
+        this.tolerance = settings.tolerance();
+        this.maxWaitNanos = settings.maxWait().toNanos();
+        this.limit = Math.clamp(settings.initialLimit(), minLimit, maxLimit);
+        this.lastDecrease = System.nanoTime();
+    }
+
+    /**
+     * Takes a slot, waiting up to {@code maxWait} for one.
+     *
+     * @return {@code false} if no slot became free in time
+     */
+    boolean tryAcquire() throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees the slot of a finished call and adapts the limit to its outcome.
+     */
+    void release(BeerOperation operation, long rttNanos, boolean failed) {
+        release(operation, rttNanos, failed, System.nanoTime());
+    }
+
+    /**
+     * Frees the slot of a call that failed before reaching the service, leaving the limit as it is.
+     */
+    void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(BeerOperation operation, long rttNanos, boolean failed, long now) {
+        lock.lock();
+        try {
+            int i = operation.ordinal();
+            long baseline = baselineNanos[i];
+            if (!failed) {
+                baselineNanos[i] = baseline == 0 || rttNanos < baseline ? rttNanos
+                        : baseline + (rttNanos - baseline) / BASELINE_DRIFT;
+            }
+
+            if (failed || (baseline > 0 && rttNanos > tolerance * baseline)) {
+                if (now - rttNanos - lastDecrease >= 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecrease = now;
+                }
+            } else if (inFlight * 2 > limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight;
+    }
+}
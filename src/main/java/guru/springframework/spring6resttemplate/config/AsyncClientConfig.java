@@ -0,0 +1,24 @@
+package guru.springframework.spring6resttemplate.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+@Configuration
+public class AsyncClientConfig {
+
+    /**
+     * Blocking beer client calls are cheap to park on virtual threads, so there is no pool to size;
+     * concurrency is capped by {@code rest.template.async.max-concurrency} instead.
+     */
+    @Bean
+    ExecutorService beerClientExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("beer-client-", 0).factory());
+    }
+}
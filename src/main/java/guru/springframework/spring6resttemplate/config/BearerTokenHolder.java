@@ -0,0 +1,193 @@
+package guru.springframework.spring6resttemplate.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Caches the client-credentials access token as a ready-made {@code Authorization} header value.
+ * <p>
+ * Reads are a single volatile load. Once the token is within {@code refreshAhead} of expiry (or past half
+ * its lifetime, for tokens shorter than {@code refreshAhead}) a refresh is started in the background while
+ * callers keep using the current token; only an absent or expired token makes callers wait. At most one
+ * refresh is in flight at any time.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+public class BearerTokenHolder {
+    static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofSeconds(60);
+    private static final Instant LATEST = Instant.ofEpochMilli(Long.MAX_VALUE);
+
+    private final OAuth2AuthorizedClientManager manager;
+    private final OAuth2AuthorizedClientService authorizedClientService;
+    private final OAuth2AuthorizeRequest authorizeRequest;
+    private final Authentication principal;
+    private final Clock clock;
+    private final Executor executor;
+    private final long refreshAheadMillis;
+    private final Timer fetchTimer;
+
+    private final AtomicReference<BearerToken> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<BearerToken>> refreshing = new AtomicReference<>();
+
+    public BearerTokenHolder(OAuth2AuthorizedClientManager manager, OAuth2AuthorizedClientService authorizedClientService,
+                             String clientRegistrationId, Authentication principal, MeterRegistry meterRegistry) {
+        this(manager, authorizedClientService, clientRegistrationId, principal, Clock.systemUTC(),
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("oauth-token-refresh-", 0).factory()),
+                DEFAULT_REFRESH_AHEAD, meterRegistry);
+    }
+
+    BearerTokenHolder(OAuth2AuthorizedClientManager manager, OAuth2AuthorizedClientService authorizedClientService,
+                      String clientRegistrationId, Authentication principal, Clock clock, Executor executor,
+                      Duration refreshAhead, MeterRegistry meterRegistry) {
+        this.manager = manager;
+        this.authorizedClientService = authorizedClientService;
+        this.principal = principal;
+        this.authorizeRequest = OAuth2AuthorizeRequest
+                .withClientRegistrationId(clientRegistrationId)
+                .principal(principal)
+                .build();
+        this.clock = clock;
+        this.executor = executor;
+        this.refreshAheadMillis = refreshAhead.toMillis();
+        this.fetchTimer = Timer.builder("beer.client.oauth.token.fetch")
+                .description("Round trips to the authorization server's token endpoint")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns a token that is still valid, refreshing in the background when it is close to expiry.
+     */
+    public BearerToken token() {
+        BearerToken token = current.get();
+        if (token != null) {
+            long now = clock.millis();
+            if (now < token.refreshAt()) {
+                return token;
+            }
+            if (now < token.expiresAt()) {
+                refresh(token);
+                return token;
+            }
+        }
+        return await(refresh(token));
+    }
+
+    /**
+     * Discards {@code rejected} and waits for a new token, e.g. after the resource server answered 401.
+     * Concurrent callers rejecting the same token share one refresh.
+     */
+    public BearerToken refreshRejected(BearerToken rejected) {
+        return await(refresh(rejected));
+    }
+
+    private CompletableFuture<BearerToken> refresh(BearerToken stale) {
+        while (true) {
+            CompletableFuture<BearerToken> pending = refreshing.get();
+            if (pending != null) {
+                return pending;
+            }
+
+            CompletableFuture<BearerToken> refresh = new CompletableFuture<>();
+            if (!refreshing.compareAndSet(null, refresh)) {
+                continue;
+            }
+
+            BearerToken latest = current.get();
+            if (latest != stale) {
+                // another refresh finished between reading the token and claiming the slot
+                refreshing.set(null);
+                refresh.complete(latest);
+                return refresh;
+            }
+
+            executor.execute(() -> {
+                try {
+                    BearerToken token = fetchTimer.record(this::fetch);
+                    current.set(token);
+                    refresh.complete(token);
+                } catch (Throwable e) {
+                    log.warn("Failed to refresh access token: {}", e.getMessage());
+                    refresh.completeExceptionally(e);
+                } finally {
+                    refreshing.compareAndSet(refresh, null);
+                }
+            });
+            return refresh;
+        }
+    }
+
+    private BearerToken fetch() {
+        // the manager hands back its stored client until the token is nearly expired,
+        // so drop it first to make sure the token endpoint is actually called
+        authorizedClientService.removeAuthorizedClient(authorizeRequest.getClientRegistrationId(), principal.getName());
+
+        OAuth2AuthorizedClient client = manager.authorize(authorizeRequest);
+
+        if (isNull(client)) {
+            throw new IllegalStateException("Missing credentials");
+        }
+
+        OAuth2AccessToken accessToken = client.getAccessToken();
+        long issuedAt = isNull(accessToken.getIssuedAt()) ? clock.millis() : toEpochMillis(accessToken.getIssuedAt());
+        long expiresAt = toEpochMillis(accessToken.getExpiresAt());
+        return new BearerToken("Bearer " + accessToken.getTokenValue(), refreshAt(issuedAt, expiresAt), expiresAt);
+    }
+
+    /**
+     * {@code refreshAhead} before expiry, but no earlier than half the token's lifetime, so tokens living
+     * less than {@code refreshAhead} are not refreshed on every call.
+     */
+    private long refreshAt(long issuedAt, long expiresAt) {
+        if (expiresAt == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        long lifetime = Math.max(0, expiresAt - issuedAt);
+        return issuedAt + Math.max(lifetime / 2, lifetime - refreshAheadMillis);
+    }
+
+    private static long toEpochMillis(Instant instant) {
+        if (isNull(instant) || instant.isAfter(LATEST)) {
+            return Long.MAX_VALUE;
+        }
+        return instant.toEpochMilli();
+    }
+
+    private static BearerToken await(CompletableFuture<BearerToken> refresh) {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param headerValue complete {@code Authorization} header value
+     * @param refreshAt   epoch millis after which a background refresh is started
+     * @param expiresAt   epoch millis after which the token is no longer served
+     */
+    public record BearerToken(String headerValue, long refreshAt, long expiresAt) {
+    }
+}
@@ -0,0 +1,53 @@
+package guru.springframework.spring6resttemplate.config;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exposes the beer client connection pool counters at {@code /actuator/beerclientpool}
+ * to help size {@code rest.template.pool.*}. Only present with the default Apache HttpClient transport.
+ * <p>
+ * HttpClient keeps a separate pool per route, capped at {@code max-per-route}, so with
+ * {@code rest.template.load-balancer.endpoints} each replica has its own pool, reported under {@code routes}.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Component
+@ConditionalOnProperty(name = "rest.template.transport", havingValue = "apache", matchIfMissing = true)
+@Endpoint(id = "beerclientpool")
+public class BeerClientPoolEndpoint {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    public BeerClientPoolEndpoint(PoolingHttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @ReadOperation
+    public BeerClientPool poolStatistics() {
+        Map<String, PoolStatistics> routes = new TreeMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            routes.put(route.getTargetHost().toURI(), PoolStatistics.of(connectionManager.getStats(route)));
+        }
+        return new BeerClientPool(PoolStatistics.of(connectionManager.getTotalStats()), routes);
+    }
+
+    public record BeerClientPool(PoolStatistics total, Map<String, PoolStatistics> routes) {
+    }
+
+    public record PoolStatistics(int leased, int pending, int available, int max) {
+
+        static PoolStatistics of(PoolStats stats) {
+            return new PoolStatistics(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax());
+        }
+    }
+}
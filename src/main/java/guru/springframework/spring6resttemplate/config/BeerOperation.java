@@ -0,0 +1,65 @@
+package guru.springframework.spring6resttemplate.config;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+
+/**
+ * The {@code BeerClient} operation an outgoing request belongs to, derived from its method and path
+ * so interceptors can tell operations apart without extra request state.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public enum BeerOperation {
+    LIST_BEERS("listBeers", true),
+    GET_BEER_BY_ID("getBeerById", true),
+    CREATE_BEER("createBeer", false),
+    UPDATE_BEER("updateBeer", true),
+    DELETE_BEER("deleteBeer", true),
+    OTHER("other", false);
+
+    private final String operationName;
+    private final boolean idempotent;
+
+    BeerOperation(String operationName, boolean idempotent) {
+        this.operationName = operationName;
+        this.idempotent = idempotent;
+    }
+
+    public String operationName() {
+        return operationName;
+    }
+
+    /**
+     * Whether repeating the request has the same effect as sending it once, i.e. whether it is safe to retry.
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    public static BeerOperation of(HttpRequest request) {
+        return of(request.getMethod(), request.getURI().getRawPath());
+    }
+
+    public static BeerOperation of(HttpMethod method, String path) {
+        if (path == null) {
+            return OTHER;
+        }
+        boolean collection = path.endsWith("/beer") || path.equals("beer");
+        boolean item = !collection && path.contains("beer/") && path.indexOf('/', path.lastIndexOf("beer/") + 5) < 0;
+
+        if (HttpMethod.GET.equals(method)) {
+            return collection ? LIST_BEERS : item ? GET_BEER_BY_ID : OTHER;
+        }
+        if (HttpMethod.POST.equals(method)) {
+            return collection ? CREATE_BEER : OTHER;
+        }
+        if (HttpMethod.PUT.equals(method)) {
+            return item ? UPDATE_BEER : OTHER;
+        }
+        if (HttpMethod.DELETE.equals(method)) {
+            return item ? DELETE_BEER : OTHER;
+        }
+        return OTHER;
+    }
+}
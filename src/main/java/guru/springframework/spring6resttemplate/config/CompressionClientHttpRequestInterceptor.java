@@ -0,0 +1,181 @@
+package guru.springframework.spring6resttemplate.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Asks for {@code gzip}/{@code deflate} responses and inflates them while they are read, so the JSON
+ * parser consumes the decompressed stream without the body being buffered first. Request bodies of
+ * {@code createBeer}/{@code updateBeer} are gzipped when {@code rest.template.compression.request-enabled}
+ * is set and they reach {@code rest.template.compression.request-min-size}.
+ * <p>
+ * This runs the same way on every transport; the Apache client's own decompression is disabled in
+ * {@link HttpClientConfig} so that compressed sizes are visible here. For each compressed body,
+ * {@code beer.client.compressed.bytes} and {@code beer.client.uncompressed.bytes} are recorded per
+ * operation and direction.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Component
+public class CompressionClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private final boolean requestCompression;
+    private final int requestMinSize;
+    private final DistributionSummary[][] compressed = new DistributionSummary[BeerOperation.values().length][2];
+    private final DistributionSummary[][] uncompressed = new DistributionSummary[BeerOperation.values().length][2];
+
+    public CompressionClientHttpRequestInterceptor(@Value("${rest.template.compression.request-enabled}") boolean requestCompression,
+                                                   @Value("${rest.template.compression.request-min-size}") DataSize requestMinSize,
+                                                   MeterRegistry meterRegistry) {
+        this.requestCompression = requestCompression;
+        this.requestMinSize = (int) requestMinSize.toBytes();
+        for (BeerOperation operation : BeerOperation.values()) {
+            for (Direction direction : Direction.values()) {
+                compressed[operation.ordinal()][direction.ordinal()] =
+                        bytesSummary(meterRegistry, "beer.client.compressed.bytes", operation, direction);
+                uncompressed[operation.ordinal()][direction.ordinal()] =
+                        bytesSummary(meterRegistry, "beer.client.uncompressed.bytes", operation, direction);
+            }
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        BeerOperation operation = BeerOperation.of(request);
+        HttpHeaders headers = request.getHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING);
+
+        byte[] sent = body;
+        if (requestCompression && body.length >= requestMinSize
+                && (operation == BeerOperation.CREATE_BEER || operation == BeerOperation.UPDATE_BEER)
+                && !headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            sent = gzip(body);
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            headers.setContentLength(sent.length);
+            record(operation, Direction.REQUEST, sent.length, body.length);
+        }
+
+        ClientHttpResponse response = execution.execute(request, sent);
+        String encoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (encoding == null) {
+            return response;
+        }
+        return switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+            case "gzip", "x-gzip" -> new DecompressingClientHttpResponse(response, operation, true);
+            case "deflate" -> new DecompressingClientHttpResponse(response, operation, false);
+            default -> response;
+        };
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private void record(BeerOperation operation, Direction direction, long compressedBytes, long uncompressedBytes) {
+        compressed[operation.ordinal()][direction.ordinal()].record(compressedBytes);
+        uncompressed[operation.ordinal()][direction.ordinal()].record(uncompressedBytes);
+    }
+
+    private static DistributionSummary bytesSummary(MeterRegistry meterRegistry, String name,
+                                                    BeerOperation operation, Direction direction) {
+        return DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .tag("operation", operation.operationName())
+                .tag("direction", direction.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+
+    private enum Direction {
+        REQUEST, RESPONSE
+    }
+
+    /**
+     * Presents the inflated body, without the {@code Content-Encoding} and {@code Content-Length}
+     * that described the compressed one.
+     */
+    private class DecompressingClientHttpResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final BeerOperation operation;
+        private final boolean gzip;
+        private final HttpHeaders headers;
+        private CountingInputStream wire;
+        private CountingInputStream body;
+        private boolean closed;
+
+        DecompressingClientHttpResponse(ClientHttpResponse delegate, BeerOperation operation, boolean gzip) {
+            this.delegate = delegate;
+            this.operation = operation;
+            this.gzip = gzip;
+            this.headers = new HttpHeaders();
+            this.headers.putAll(delegate.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                wire = new CountingInputStream(delegate.getBody());
+                // an empty body (e.g. 204 or 304) carries no gzip header to read
+                InputStream buffered = new BufferedInputStream(wire, 8192);
+                buffered.mark(1);
+                boolean empty = buffered.read() < 0;
+                buffered.reset();
+                InputStream inflated = empty ? buffered : gzip ? new GZIPInputStream(buffered) : new InflaterInputStream(buffered);
+                body = new CountingInputStream(inflated);
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                if (body != null) {
+                    record(operation, Direction.RESPONSE, wire.count(), body.count());
+                }
+            }
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package guru.springframework.spring6resttemplate.config;
+
+import guru.springframework.spring6resttemplate.config.ResilienceProperties.LimiterSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * Limits concurrent calls to the beer service with an {@link AdaptiveConcurrencyLimit}, which shrinks
+ * when calls fail or slow down and grows back while they are fast.
+ * <p>
+ * It sits in front of the {@link ResilienceClientHttpRequestInterceptor}, so a call holds one slot across
+ * all its retries and its latency sample includes them. The fixed bulkhead stays as the hard cap behind it.
+ * Calls that find no slot within {@code rest.template.resilience.limiter.max-wait} fail with a
+ * {@link ConcurrencyLimitExceededException} without being sent. Only I/O errors, 429 and 5xx responses count
+ * as failures; a runtime exception from the interceptors behind it frees the slot without adapting the limit.
+ * <p>
+ * {@code beer.client.limiter.limit} and {@code beer.client.limiter.inflight} report the current limit and
+ * the calls holding a slot, {@code beer.client.limiter.rejected} counts rejections.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Component
+public class ConcurrencyLimitClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final Counter rejected;
+
+    public ConcurrencyLimitClientHttpRequestInterceptor(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        LimiterSettings settings = properties.limiter();
+        if (settings == null || !settings.enabled()) {
+            this.limit = null;
+            this.rejected = null;
+            return;
+        }
+        this.limit = new AdaptiveConcurrencyLimit(settings);
+        Gauge.builder("beer.client.limiter.limit", limit, AdaptiveConcurrencyLimit::limit).register(meterRegistry);
+        Gauge.builder("beer.client.limiter.inflight", limit, AdaptiveConcurrencyLimit::inFlight).register(meterRegistry);
+        this.rejected = meterRegistry.counter("beer.client.limiter.rejected");
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (limit == null) {
+            return execution.execute(request, body);
+        }
+
+        try {
+            if (!limit.tryAcquire()) {
+                rejected.increment();
+                throw new ConcurrencyLimitExceededException("Concurrency limit of " + limit.limit()
+                        + " reached for " + request.getMethod() + " " + request.getURI());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the concurrency limit");
+        }
+
+        BeerOperation operation = BeerOperation.of(request);
+        long start = System.nanoTime();
+        boolean measured = true;
+        boolean failed = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            failed = isOverload(response.getStatusCode());
+            return response;
+        } catch (RuntimeException e) {
+            // an open circuit, a full bulkhead or a missing token: says nothing about the service's capacity
+            measured = false;
+            throw e;
+        } finally {
+            if (measured) {
+                limit.release(operation, System.nanoTime() - start, failed);
+            } else {
+                limit.release();
+            }
+        }
+    }
+
+    private static boolean isOverload(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == 429;
+    }
+}
@@ -0,0 +1,17 @@
+package guru.springframework.spring6resttemplate.config;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Thrown when a beer service call finds the adaptive concurrency limit full and no slot frees up within
+ * {@code rest.template.resilience.limiter.max-wait}. The request was not sent.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public class ConcurrencyLimitExceededException extends RestClientException {
+
+    public ConcurrencyLimitExceededException(String msg) {
+        super(msg);
+    }
+}
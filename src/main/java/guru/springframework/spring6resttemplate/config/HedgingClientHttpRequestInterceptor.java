@@ -0,0 +1,262 @@
+package guru.springframework.spring6resttemplate.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedges idempotent GETs ({@code listBeers}, {@code getBeerById}) against slow replicas and pauses: if
+ * no response headers arrive within the {@code rest.template.hedging.percentile} latency of the operation,
+ * an identical second request is sent. Whichever answers first wins. The loser is interrupted, and its
+ * response is closed as soon as it arrives, since blocking transports cannot always abort a request in flight.
+ * <p>
+ * The delay is the percentile of the last {@value LatencyWindow#SIZE} unhedged-attempt latencies of the
+ * operation, at least {@code min-delay}; nothing is hedged until {@value LatencyWindow#MIN_SAMPLES} have been
+ * seen. A primary that loses to its hedge is recorded with the time it had taken so far: only a lower bound,
+ * but leaving it out would bias the window toward fast requests and shrink the delay. Hedges draw from a
+ * {@link RetryBudget} of {@code budget-ratio} of requests, plus {@code min-hedges-per-second}, which keeps the
+ * extra load to a few percent even when the whole service slows.
+ * <p>
+ * It is registered last, so both requests carry the OAuth token and go through the
+ * {@link LoadBalancingClientHttpRequestFactory}, which usually sends the hedge to another endpoint. Retries of
+ * the {@link ResilienceClientHttpRequestInterceptor} go straight to the transport and are not hedged.
+ * {@code beer.client.hedges} counts hedges sent ({@code outcome=hedged}), hedges that won ({@code won}) and
+ * hedges the budget refused ({@code budget_exhausted}) per operation; {@code beer.client.hedging.delay}
+ * reports the current delay.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Component
+public class HedgingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Set<BeerOperation> HEDGED = EnumSet.of(BeerOperation.LIST_BEERS, BeerOperation.GET_BEER_BY_ID);
+
+    private final boolean enabled;
+    private final long minDelayNanos;
+    private final ExecutorService executor;
+    private final RetryBudget budget;
+    private final LatencyWindow[] windows = new LatencyWindow[BeerOperation.values().length];
+    private final Counter[] hedged = new Counter[BeerOperation.values().length];
+    private final Counter[] won = new Counter[BeerOperation.values().length];
+    private final Counter[] budgetExhausted = new Counter[BeerOperation.values().length];
+
+    public HedgingClientHttpRequestInterceptor(@Value("${rest.template.hedging.enabled}") boolean enabled,
+                                               @Value("${rest.template.hedging.percentile}") double percentile,
+                                               @Value("${rest.template.hedging.min-delay}") Duration minDelay,
+                                               @Value("${rest.template.hedging.budget-ratio}") double budgetRatio,
+                                               @Value("${rest.template.hedging.min-hedges-per-second}") int minHedgesPerSecond,
+                                               @Qualifier("beerClientExecutor") ExecutorService executor,
+                                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.minDelayNanos = minDelay.toNanos();
+        this.executor = executor;
+        this.budget = new RetryBudget(budgetRatio, minHedgesPerSecond);
+        for (BeerOperation operation : HEDGED) {
+            int i = operation.ordinal();
+            windows[i] = new LatencyWindow(percentile);
+            hedged[i] = hedgeCounter(meterRegistry, operation, "hedged");
+            won[i] = hedgeCounter(meterRegistry, operation, "won");
+            budgetExhausted[i] = hedgeCounter(meterRegistry, operation, "budget_exhausted");
+            Gauge.builder("beer.client.hedging.delay", windows[i], window -> Math.max(0, window.delayNanos()) / 1e6)
+                    .tag("operation", operation.operationName())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        BeerOperation operation = BeerOperation.of(request);
+        if (!enabled || !HEDGED.contains(operation)) {
+            return execution.execute(request, body);
+        }
+        int i = operation.ordinal();
+        LatencyWindow window = windows[i];
+        budget.onRequest();
+
+        long delay = window.delayNanos();
+        if (delay < 0) {
+            long start = System.nanoTime();
+            ClientHttpResponse response = execution.execute(request, body);
+            window.record(System.nanoTime() - start);
+            return response;
+        }
+
+        Race race = new Race();
+        Future<?> primary = race.send(request, body, execution, window);
+        try {
+            return race.winner.get(Math.max(delay, minDelayNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!budget.tryAcquire()) {
+                budgetExhausted[i].increment();
+                return await(race, primary, null);
+            }
+            hedged[i].increment();
+            Future<?> hedge = race.send(request, body, execution, null);
+            try {
+                ClientHttpResponse response = await(race, primary, hedge);
+                if (response == race.hedgeResponse) {
+                    won[i].increment();
+                }
+                return response;
+            } finally {
+                race.censorPrimary();
+            }
+        } catch (InterruptedException e) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the beer service");
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static ClientHttpResponse await(Race race, Future<?> primary, Future<?> hedge) throws IOException {
+        try {
+            return race.winner.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the beer service");
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private static IOException rethrow(ExecutionException e) {
+        if (e.getCause() instanceof IOException cause) {
+            return cause;
+        }
+        if (e.getCause() instanceof RuntimeException cause) {
+            throw cause;
+        }
+        return new IOException(e.getCause());
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, BeerOperation operation, String outcome) {
+        return Counter.builder("beer.client.hedges")
+                .tag("operation", operation.operationName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The primary request and its hedge: the first response completes {@link #winner}, later ones are
+     * closed. {@code winner} fails only once every request sent has failed.
+     */
+    private class Race {
+
+        final CompletableFuture<ClientHttpResponse> winner = new CompletableFuture<>();
+        final AtomicInteger pending = new AtomicInteger();
+        final AtomicBoolean primaryRecorded = new AtomicBoolean();
+        volatile ClientHttpResponse hedgeResponse;
+        volatile LatencyWindow window;
+        volatile long primaryStart;
+
+        /**
+         * @param window where to record the latency, {@code null} for the hedge
+         */
+        Future<?> send(HttpRequest request, byte[] body, ClientHttpRequestExecution execution, LatencyWindow window) {
+            pending.incrementAndGet();
+            if (window != null) {
+                this.window = window;
+                this.primaryStart = System.nanoTime();
+            }
+            return executor.submit(() -> {
+                long start = System.nanoTime();
+                ClientHttpResponse response;
+                try {
+                    response = execution.execute(request, body);
+                } catch (IOException | RuntimeException e) {
+                    if (pending.decrementAndGet() == 0) {
+                        winner.completeExceptionally(e);
+                    }
+                    return;
+                }
+                if (window != null && primaryRecorded.compareAndSet(false, true)) {
+                    window.record(System.nanoTime() - start);
+                }
+                pending.decrementAndGet();
+                if (window == null) {
+                    hedgeResponse = response;
+                }
+                if (!winner.complete(response)) {
+                    response.close();
+                }
+            });
+        }
+
+        /**
+         * Records the time the primary has taken so far, unless it already recorded its own latency.
+         */
+        void censorPrimary() {
+            LatencyWindow primaryWindow = window;
+            if (primaryWindow != null && primaryRecorded.compareAndSet(false, true)) {
+                primaryWindow.record(System.nanoTime() - primaryStart);
+            }
+        }
+    }
+
+    /**
+     * The latest {@link #SIZE} latencies of an operation; the percentile is recomputed every
+     * {@link #RECOMPUTE_EVERY} samples rather than on each request.
+     */
+    static class LatencyWindow {
+
+        static final int SIZE = 1024;
+        static final int MIN_SAMPLES = 128;
+        static final int RECOMPUTE_EVERY = 64;
+
+        private final double percentile;
+        private final long[] samples = new long[SIZE];
+        private long count;
+        private volatile long delayNanos = -1;
+
+        LatencyWindow(double percentile) {
+            this.percentile = percentile;
+        }
+
+        synchronized void record(long latencyNanos) {
+            samples[(int) (count++ % SIZE)] = latencyNanos;
+            if (count >= MIN_SAMPLES && count % RECOMPUTE_EVERY == 0) {
+                long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, SIZE));
+                Arrays.sort(sorted);
+                delayNanos = sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+            }
+        }
+
+        /**
+         * @return the hedging delay, or {@code -1} until enough latencies have been recorded
+         */
+        long delayNanos() {
+            return delayNanos;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package guru.springframework.spring6resttemplate.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Opt-in ({@code rest.template.transport=jdk-http2}) transport on the JDK {@link HttpClient} speaking HTTP/2,
+ * so concurrent calls are multiplexed as streams over a few connections instead of taking one connection each.
+ * <p>
+ * Over TLS the protocol is negotiated with ALPN; over plain HTTP the first request to a server offers an h2c
+ * upgrade. Servers that do not take it up are talked to with HTTP/1.1, with no configuration change.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "rest.template.transport", havingValue = "jdk-http2")
+public class JdkHttpClientConfig {
+
+    @Bean
+    HttpClient beerHttpClient(ResilienceProperties resilienceProperties,
+                              @Qualifier("beerClientExecutor") ExecutorService beerClientExecutor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(resilienceProperties.connectTimeout())
+                .executor(beerClientExecutor)
+                .build();
+    }
+
+    /**
+     * The JDK factory only has a factory-wide read timeout, so there is one per {@link BeerOperation},
+     * all sharing the same client and its connections.
+     */
+    @Bean
+    ClientHttpRequestFactory beerClientRequestFactory(HttpClient beerHttpClient,
+                                                      ResilienceProperties resilienceProperties,
+                                                      @Qualifier("beerClientExecutor") ExecutorService beerClientExecutor) {
+        return new PerOperationClientHttpRequestFactory(operation -> {
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(beerHttpClient, beerClientExecutor);
+            requestFactory.setReadTimeout(resilienceProperties.timeouts(operation).readTimeout());
+            return requestFactory;
+        });
+    }
+}
@@ -0,0 +1,264 @@
+package guru.springframework.spring6resttemplate.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Spreads beer service requests over several replicas. URIs under the logical {@code rest.template.rootUrl}
+ * are rewritten onto the base URL of the chosen endpoint; other URIs go to the first endpoint unchanged.
+ * <p>
+ * Endpoints are picked by power of two choices: two random endpoints are compared and the one with the
+ * lower cost wins, where cost is the endpoint's peak EWMA latency times its calls in flight plus one.
+ * Peak EWMA jumps to a slower sample at once and decays toward faster ones over {@code decay}, so a
+ * replica that starts to struggle loses traffic immediately and wins it back gradually.
+ * <p>
+ * After {@code maxFailures} consecutive failures (I/O errors or 5xx responses) an endpoint is ejected for
+ * {@code ejectionTime}. Once that has passed, a single request probes it: success re-admits the endpoint,
+ * otherwise the next probe waits another {@code ejectionTime}. Only the probe re-admits it, not a request
+ * that was already in flight when it was ejected. If every endpoint is ejected, they are all used anyway
+ * rather than failing calls the service might still answer.
+ * <p>
+ * Choosing an endpoint happens when the request is created, so each retry of the
+ * {@link ResilienceClientHttpRequestInterceptor} is balanced on its own and usually avoids the endpoint
+ * that just failed. Each endpoint reports {@code beer.client.endpoint.inflight},
+ * {@code beer.client.endpoint.latency} and {@code beer.client.endpoint.ejected}, tagged with the endpoint,
+ * and {@code beer.client.endpoint.ejections} counts ejections.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+class LoadBalancingClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final String rootUrl;
+    private final Endpoint[] endpoints;
+    private final int maxFailures;
+    private final long ejectionNanos;
+    private final long decayNanos;
+    private final LongSupplier nanoTime;
+
+    LoadBalancingClientHttpRequestFactory(String rootUrl, List<String> endpointUrls, ClientHttpRequestFactory requestFactory,
+                                          int maxFailures, Duration ejectionTime, Duration decay,
+                                          MeterRegistry meterRegistry) {
+        this(rootUrl, endpointUrls, requestFactory, maxFailures, ejectionTime, decay, meterRegistry, System::nanoTime);
+    }
+
+    LoadBalancingClientHttpRequestFactory(String rootUrl, List<String> endpointUrls, ClientHttpRequestFactory requestFactory,
+                                          int maxFailures, Duration ejectionTime, Duration decay,
+                                          MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.rootUrl = rootUrl;
+        this.maxFailures = maxFailures;
+        this.nanoTime = nanoTime;
+        this.ejectionNanos = ejectionTime.toNanos();
+        this.decayNanos = decay.toNanos();
+        this.endpoints = endpointUrls.stream()
+                .map(String::trim)
+                .map(url -> new Endpoint(url, requestFactory, meterRegistry))
+                .toArray(Endpoint[]::new);
+        if (endpoints.length == 0) {
+            throw new IllegalArgumentException("At least one endpoint is required");
+        }
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        String url = uri.toString();
+        if (!url.startsWith(rootUrl)) {
+            return endpoints[0].admitted.requestFactory.createRequest(uri, httpMethod);
+        }
+        Route route = choose(nanoTime.getAsLong());
+        return route.requestFactory.createRequest(URI.create(route.endpoint.baseUrl + url.substring(rootUrl.length())),
+                httpMethod);
+    }
+
+    Route choose(long now) {
+        if (endpoints.length == 1) {
+            return endpoints[0].admitted;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(endpoints.length);
+        int second = random.nextInt(endpoints.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint preferred = endpoints[first];
+        Endpoint other = endpoints[second];
+        if (other.cost() < preferred.cost()) {
+            preferred = other;
+            other = endpoints[first];
+        }
+
+        // a due probe goes out even if the ejected endpoint's stale latency makes it look expensive
+        Route route = other.isEjected() ? other.tryAcquire(now) : null;
+        if (route == null) {
+            route = preferred.tryAcquire(now);
+        }
+        if (route == null) {
+            route = other.tryAcquire(now);
+        }
+        for (int i = 1; route == null && i < endpoints.length; i++) {
+            route = endpoints[(first + i) % endpoints.length].tryAcquire(now);
+        }
+        return route == null ? preferred.admitted : route;
+    }
+
+    Endpoint[] endpoints() {
+        return endpoints;
+    }
+
+    /**
+     * How a request reaches an endpoint: as an ordinary request or as the probe of an ejected endpoint.
+     * Requests pass through {@link #intercept}, which records their outcome.
+     */
+    class Route implements ClientHttpRequestInterceptor {
+
+        private final Endpoint endpoint;
+        private final boolean probe;
+        private final ClientHttpRequestFactory requestFactory;
+
+        Route(Endpoint endpoint, boolean probe, ClientHttpRequestFactory requestFactory) {
+            this.endpoint = endpoint;
+            this.probe = probe;
+            this.requestFactory = new InterceptingClientHttpRequestFactory(requestFactory, List.of(this));
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+            return endpoint.execute(request, body, execution, probe);
+        }
+    }
+
+    /**
+     * One replica: its base URL and the statistics used to choose it.
+     */
+    class Endpoint {
+
+        private final String baseUrl;
+        private final Route admitted;
+        private final Route probe;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicLong ejectedUntil = new AtomicLong();
+        private final Counter ejections;
+        private volatile long latencyNanos;
+        private long lastSample;
+        private volatile boolean ejected;
+
+        Endpoint(String baseUrl, ClientHttpRequestFactory requestFactory, MeterRegistry meterRegistry) {
+            this.baseUrl = baseUrl.endsWith("/") || !rootUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+            this.admitted = new Route(this, false, requestFactory);
+            this.probe = new Route(this, true, requestFactory);
+            this.lastSample = nanoTime.getAsLong();
+            Gauge.builder("beer.client.endpoint.inflight", inFlight, AtomicInteger::get)
+                    .tag("endpoint", this.baseUrl).register(meterRegistry);
+            Gauge.builder("beer.client.endpoint.latency", this, Endpoint::latencyMillis)
+                    .tag("endpoint", this.baseUrl).baseUnit("milliseconds").register(meterRegistry);
+            Gauge.builder("beer.client.endpoint.ejected", this, endpoint -> endpoint.ejected ? 1 : 0)
+                    .tag("endpoint", this.baseUrl).register(meterRegistry);
+            this.ejections = Counter.builder("beer.client.endpoint.ejections")
+                    .tag("endpoint", this.baseUrl).register(meterRegistry);
+        }
+
+        ClientHttpResponse execute(HttpRequest request, byte[] body, ClientHttpRequestExecution execution,
+                                   boolean probing) throws IOException {
+            inFlight.incrementAndGet();
+            long start = nanoTime.getAsLong();
+            boolean failed = true;
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                failed = response.getStatusCode().is5xxServerError();
+                return response;
+            } finally {
+                inFlight.decrementAndGet();
+                long now = nanoTime.getAsLong();
+                record(now - start, now);
+                if (failed) {
+                    onFailure(now);
+                } else {
+                    onSuccess(probing);
+                }
+            }
+        }
+
+        /**
+         * @return the ordinary route, the probe route if the endpoint is ejected and due for a probe, or
+         * {@code null} if it is ejected and not due. Taking the probe pushes the next one back by the ejection
+         * time, so only one request at a time probes.
+         */
+        Route tryAcquire(long now) {
+            if (!ejected) {
+                return admitted;
+            }
+            long until = ejectedUntil.get();
+            return now - until >= 0 && ejectedUntil.compareAndSet(until, now + ejectionNanos) ? probe : null;
+        }
+
+        synchronized void record(long rttNanos, long now) {
+            long latency = latencyNanos;
+            if (rttNanos > latency) {
+                latencyNanos = rttNanos;
+            } else {
+                double weight = Math.exp(-(double) (now - lastSample) / decayNanos);
+                latencyNanos = (long) (latency * weight + rttNanos * (1 - weight));
+            }
+            lastSample = now;
+        }
+
+        /**
+         * Re-admits an ejected endpoint only for a probe: a request sent before the ejection may succeed
+         * while the endpoint is still failing most others.
+         */
+        void onSuccess(boolean probing) {
+            consecutiveFailures.set(0);
+            if (probing && ejected) {
+                ejected = false;
+                log.info("Endpoint {} re-admitted", baseUrl);
+            }
+        }
+
+        void onFailure(long now) {
+            if (!ejected && consecutiveFailures.incrementAndGet() >= maxFailures) {
+                ejectedUntil.set(now + ejectionNanos);
+                ejected = true;
+                ejections.increment();
+                log.warn("Endpoint {} ejected after {} consecutive failures", baseUrl, maxFailures);
+            }
+        }
+
+        long cost() {
+            return (latencyNanos + 1) * (inFlight.get() + 1);
+        }
+
+        double latencyMillis() {
+            return (double) latencyNanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        String baseUrl() {
+            return baseUrl;
+        }
+
+        boolean isEjected() {
+            return ejected;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package guru.springframework.spring6resttemplate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Structured, sampled request/response logging for the beer client. Each entry carries
+ * {@code operation}, {@code method}, {@code uri}, {@code status} (or {@code error}) and
+ * {@code durationMs} as SLF4J key-value pairs.
+ * <p>
+ * A {@code rest.template.logging.sample-rate} fraction of calls is logged at
+ * {@code rest.template.logging.level} ({@code off} disables it). Calls slower than
+ * {@code rest.template.logging.slow-threshold} are always logged at WARN, so a sample rate of 0 logs
+ * slow calls only. The duration runs until the response headers arrive, including retries. Whether
+ * a call is sampled is decided before it is sent, so calls that are not sampled cost a single random
+ * draw and a clock read.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+@Component
+public class LoggingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Level level;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public LoggingClientHttpRequestInterceptor(@Value("${rest.template.logging.level}") String level,
+                                               @Value("${rest.template.logging.sample-rate}") double sampleRate,
+                                               @Value("${rest.template.logging.slow-threshold}") Duration slowThreshold) {
+        this.level = level.equalsIgnoreCase("off") ? null : Level.valueOf(level.toUpperCase(Locale.ROOT));
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        boolean sampled = level != null && sampleRate > 0 && log.isEnabledForLevel(level)
+                && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+        if (!sampled && !log.isWarnEnabled()) {
+            return execution.execute(request, body);
+        }
+
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            long elapsed = System.nanoTime() - start;
+            if (sampled || elapsed >= slowThresholdNanos) {
+                entry(request, elapsed).addKeyValue("status", response.getStatusCode().value())
+                        .log(message(elapsed));
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            long elapsed = System.nanoTime() - start;
+            if (sampled || elapsed >= slowThresholdNanos) {
+                entry(request, elapsed).addKeyValue("error", e.getClass().getSimpleName())
+                        .log(message(elapsed));
+            }
+            throw e;
+        }
+    }
+
+    private LoggingEventBuilder entry(HttpRequest request, long elapsed) {
+        return log.atLevel(elapsed >= slowThresholdNanos ? Level.WARN : level)
+                .addKeyValue("operation", BeerOperation.of(request).operationName())
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("uri", request.getURI())
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private String message(long elapsed) {
+        return elapsed >= slowThresholdNanos ? "Slow beer client call" : "Beer client call";
+    }
+}
@@ -0,0 +1,153 @@
+package guru.springframework.spring6resttemplate.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records {@code beer.client.requests} (time until the response status and headers arrive) tagged by
+ * operation, method, status class and outcome, plus {@code beer.client.request.bytes} and
+ * {@code beer.client.response.bytes} per operation.
+ * <p>
+ * Meters are resolved once per tag combination and kept in arrays, so the hot path only reads the clock
+ * and records. Response bytes come from {@code Content-Length}; only responses without one are
+ * wrapped to count the body as it is read.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Component
+public class MetricsClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+    private static final String[] STATUS_CLASSES = {"IO_ERROR", "1xx", "2xx", "3xx", "4xx", "5xx"};
+    private static final String[] OUTCOMES = {"UNKNOWN", "INFORMATIONAL", "SUCCESS", "REDIRECTION", "CLIENT_ERROR", "SERVER_ERROR"};
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[][][] timers = new Timer[BeerOperation.values().length][METHODS.length][STATUS_CLASSES.length];
+    private final DistributionSummary[] requestBytes = new DistributionSummary[BeerOperation.values().length];
+    private final DistributionSummary[] responseBytes = new DistributionSummary[BeerOperation.values().length];
+
+    public MetricsClientHttpRequestInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (BeerOperation operation : BeerOperation.values()) {
+            requestBytes[operation.ordinal()] = bytesSummary("beer.client.request.bytes", operation);
+            responseBytes[operation.ordinal()] = bytesSummary("beer.client.response.bytes", operation);
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        BeerOperation operation = BeerOperation.of(request);
+        int methodIndex = methodIndex(request.getMethod());
+        requestBytes[operation.ordinal()].record(body.length);
+
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            timer(operation, methodIndex, 0).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        int statusClass = Math.clamp(response.getStatusCode().value() / 100, 1, 5);
+        timer(operation, methodIndex, statusClass).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        DistributionSummary received = responseBytes[operation.ordinal()];
+        long contentLength = response.getHeaders().getContentLength();
+        if (contentLength >= 0) {
+            received.record(contentLength);
+            return response;
+        }
+        return new CountingClientHttpResponse(response, received);
+    }
+
+    private Timer timer(BeerOperation operation, int methodIndex, int statusClass) {
+        Timer timer = timers[operation.ordinal()][methodIndex][statusClass];
+        if (timer == null) {
+            // racing threads get the same meter back from the registry
+            timer = Timer.builder("beer.client.requests")
+                    .tag("operation", operation.operationName())
+                    .tag("method", METHODS[methodIndex].name())
+                    .tag("status", STATUS_CLASSES[statusClass])
+                    .tag("outcome", OUTCOMES[statusClass])
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            timers[operation.ordinal()][methodIndex][statusClass] = timer;
+        }
+        return timer;
+    }
+
+    private DistributionSummary bytesSummary(String name, BeerOperation operation) {
+        return DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .tag("operation", operation.operationName())
+                .register(meterRegistry);
+    }
+
+    private static int methodIndex(HttpMethod method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static class CountingClientHttpResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final DistributionSummary received;
+        private CountingInputStream body;
+        private boolean closed;
+
+        CountingClientHttpResponse(ClientHttpResponse delegate, DistributionSummary received) {
+            this.delegate = delegate;
+            this.received = received;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                received.record(body == null ? 0 : body.count());
+            }
+            delegate.close();
+        }
+    }
+}
@@ -1,22 +1,24 @@
 package guru.springframework.spring6resttemplate.config;
 
+import guru.springframework.spring6resttemplate.config.BearerTokenHolder.BearerToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-
-import static java.util.Objects.isNull;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author john
@@ -25,31 +27,41 @@ import static java.util.Objects.isNull;
 @Component
 public class OAuthClientInterceptor implements ClientHttpRequestInterceptor {
     public static final String SPRINGAUTH = "springauth";
-    private final OAuth2AuthorizedClientManager manager;
-
-    public OAuthClientInterceptor(OAuth2AuthorizedClientManager manager) {
-        this.manager = manager;
+    private final BearerTokenHolder tokenHolder;
+    private final Timer tokenTimer;
+
+    public OAuthClientInterceptor(OAuth2AuthorizedClientManager manager,
+                                  OAuth2AuthorizedClientService authorizedClientService,
+                                  MeterRegistry meterRegistry) {
+        this.tokenHolder = new BearerTokenHolder(manager, authorizedClientService, SPRINGAUTH, createPrincipal(), meterRegistry);
+        this.tokenTimer = Timer.builder("beer.client.oauth.token")
+                .description("Time requests spend obtaining an access token, cached or not")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
     }
 
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
-        OAuth2AuthorizeRequest oAuth2AuthorizeRequest = OAuth2AuthorizeRequest
-                .withClientRegistrationId(SPRINGAUTH)
-                .principal(createPrincipal())
-                .build();
-
-        OAuth2AuthorizedClient client = manager.authorize(oAuth2AuthorizeRequest);
-
-        if (isNull(client)) {
-            throw new IllegalStateException("Missing credentials");
+        long start = System.nanoTime();
+        BearerToken token = tokenHolder.token();
+        tokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        request.getHeaders().set(HttpHeaders.AUTHORIZATION, token.headerValue());
+
+        ClientHttpResponse response = execution.execute(request, body);
+        if (!response.getStatusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED)) {
+            return response;
         }
 
-        request.getHeaders().add(HttpHeaders.AUTHORIZATION, "Bearer " + client.getAccessToken().getTokenValue());
-
+        // the token may have been revoked before it expired, retry once with a fresh one
+        response.close();
+        start = System.nanoTime();
+        BearerToken refreshed = tokenHolder.refreshRejected(token);
+        tokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        request.getHeaders().set(HttpHeaders.AUTHORIZATION, refreshed.headerValue());
         return execution.execute(request, body);
     }
 
-    private Authentication createPrincipal() {
+    private static Authentication createPrincipal() {
         return new Authentication() {
             @Override
             public Collection<? extends GrantedAuthority> getAuthorities() {
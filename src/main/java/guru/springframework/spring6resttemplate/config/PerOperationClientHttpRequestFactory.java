@@ -0,0 +1,32 @@
+package guru.springframework.spring6resttemplate.config;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.function.Function;
+
+/**
+ * Routes each request to a factory chosen by its {@link BeerOperation}, for transports whose settings
+ * (such as the read timeout) can only be set per factory rather than per request.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+class PerOperationClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final ClientHttpRequestFactory[] factories = new ClientHttpRequestFactory[BeerOperation.values().length];
+
+    PerOperationClientHttpRequestFactory(Function<BeerOperation, ClientHttpRequestFactory> factoryForOperation) {
+        for (BeerOperation operation : BeerOperation.values()) {
+            factories[operation.ordinal()] = factoryForOperation.apply(operation);
+        }
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return factories[BeerOperation.of(httpMethod, uri.getRawPath()).ordinal()].createRequest(uri, httpMethod);
+    }
+}
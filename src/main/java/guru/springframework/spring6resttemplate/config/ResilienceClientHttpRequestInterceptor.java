@@ -0,0 +1,200 @@
+package guru.springframework.spring6resttemplate.config;
+
+import guru.springframework.spring6resttemplate.config.ResilienceProperties.RetrySettings;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkhead, circuit breaker and retries around every request to the beer service.
+ * <p>
+ * Idempotent operations (see {@link BeerOperation#isIdempotent()}) are retried after I/O errors and
+ * 502/503/504 responses with exponential backoff and jitter, as long as the {@link RetryBudget} allows
+ * it and the next attempt can start before the operation's total timeout. Each attempt goes through the
+ * circuit breaker, which counts I/O errors and 5xx responses as failures and, once open, lets a few
+ * probes through in half-open state. Runtime exceptions from later interceptors are rethrown without
+ * counting against the service. The bulkhead caps concurrent calls until the response headers arrive.
+ * <p>
+ * Retries resend the request straight to the transport, so the interceptors registered after this one are
+ * skipped: the {@link OAuthClientInterceptor} does not run again, so a retry carries the Authorization
+ * header of the first attempt and a 401 to it is not answered with a fresh token, and the
+ * {@link HedgingClientHttpRequestInterceptor} does not hedge retries. 401 is never retried here; the OAuth
+ * interceptor handles it within the first attempt.
+ * <p>
+ * Circuit breaker state and bulkhead capacity are exported through resilience4j's tagged meters, with
+ * {@code beer.client.circuitbreaker.transitions}, {@code beer.client.bulkhead.rejected} and
+ * {@code beer.client.retries} counting transitions, rejections and retry decisions.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+@Component
+public class ResilienceClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String BEER_SERVICE = "beerService";
+
+    private final ResilienceProperties properties;
+    private final long[] totalTimeoutNanos = new long[BeerOperation.values().length];
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RetryBudget retryBudget;
+    private final Counter[] retried = new Counter[BeerOperation.values().length];
+    private final Counter[] budgetExhausted = new Counter[BeerOperation.values().length];
+    private final Counter[] deadlineExceeded = new Counter[BeerOperation.values().length];
+
+    public ResilienceClientHttpRequestInterceptor(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.circuitBreaker().failureRateThreshold())
+                .slidingWindowSize(properties.circuitBreaker().slidingWindowSize())
+                .minimumNumberOfCalls(properties.circuitBreaker().minimumNumberOfCalls())
+                .waitDurationInOpenState(properties.circuitBreaker().waitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.circuitBreaker().permittedCallsInHalfOpenState())
+                .recordResult(result -> result instanceof HttpStatusCode status && status.is5xxServerError())
+                .build());
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(BEER_SERVICE);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("Circuit breaker {}: {}", event.getCircuitBreakerName(), event.getStateTransition());
+            meterRegistry.counter("beer.client.circuitbreaker.transitions",
+                    "from", event.getStateTransition().getFromState().name(),
+                    "to", event.getStateTransition().getToState().name()).increment();
+        });
+
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.bulkhead().maxConcurrentCalls())
+                .maxWaitDuration(properties.bulkhead().maxWait())
+                .build());
+        this.bulkhead = bulkheadRegistry.bulkhead(BEER_SERVICE);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        Counter rejected = meterRegistry.counter("beer.client.bulkhead.rejected");
+        bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+
+        this.retryBudget = new RetryBudget(properties.retry().budgetRatio(), properties.retry().minRetriesPerSecond());
+        for (BeerOperation operation : BeerOperation.values()) {
+            int i = operation.ordinal();
+            totalTimeoutNanos[i] = properties.timeouts(operation).totalTimeout().toNanos();
+            retried[i] = retryCounter(meterRegistry, operation, "retried");
+            budgetExhausted[i] = retryCounter(meterRegistry, operation, "budget_exhausted");
+            deadlineExceeded[i] = retryCounter(meterRegistry, operation, "deadline_exceeded");
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        BeerOperation operation = BeerOperation.of(request);
+        long deadline = System.nanoTime() + totalTimeoutNanos[operation.ordinal()];
+        retryBudget.onRequest();
+
+        bulkhead.acquirePermission();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                circuitBreaker.acquirePermission();
+                long start = System.nanoTime();
+                ClientHttpResponse response;
+                try {
+                    response = execution.execute(request, body);
+                } catch (IOException e) {
+                    circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                    if (!backOffBeforeRetry(operation, attempt, deadline)) {
+                        throw e;
+                    }
+                    log.debug("Retrying {} after {}", request.getURI(), e.toString());
+                    continue;
+                } catch (RuntimeException e) {
+                    // not the beer service failing (e.g. no token could be obtained), but the permit must
+                    // be given back or a half-open breaker runs out of probes and never closes again
+                    circuitBreaker.releasePermission();
+                    throw e;
+                }
+
+                HttpStatusCode status = response.getStatusCode();
+                circuitBreaker.onResult(System.nanoTime() - start, TimeUnit.NANOSECONDS, status);
+                if (!isRetryable(status) || !backOffBeforeRetry(operation, attempt, deadline)) {
+                    return response;
+                }
+                log.debug("Retrying {} after {}", request.getURI(), status);
+                response.close();
+            }
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Gateway and overload errors only; in particular not 401, which a retry could not fix as it skips
+     * the OAuth interceptor.
+     */
+    private static boolean isRetryable(HttpStatusCode status) {
+        int code = status.value();
+        return code == 502 || code == 503 || code == 504;
+    }
+
+    /**
+     * Sleeps for the backoff if another attempt is allowed.
+     *
+     * @return {@code false} if the operation must not be attempted again
+     */
+    private boolean backOffBeforeRetry(BeerOperation operation, int attempt, long deadline) throws InterruptedIOException {
+        RetrySettings retry = properties.retry();
+        if (!operation.isIdempotent() || attempt >= retry.maxAttempts()) {
+            return false;
+        }
+        long backoff = backoffNanos(retry, attempt);
+        if (System.nanoTime() + backoff >= deadline) {
+            deadlineExceeded[operation.ordinal()].increment();
+            return false;
+        }
+        if (!retryBudget.tryAcquire()) {
+            budgetExhausted[operation.ordinal()].increment();
+            return false;
+        }
+        retried[operation.ordinal()].increment();
+        try {
+            TimeUnit.NANOSECONDS.sleep(backoff);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while backing off before a retry");
+        }
+        return true;
+    }
+
+    static long backoffNanos(RetrySettings retry, int attempt) {
+        double backoff = Math.min(retry.maxBackoff().toNanos(),
+                retry.initialBackoff().toNanos() * Math.pow(retry.multiplier(), attempt - 1));
+        // spreads retries of callers that failed together over [backoff * (1 - jitter), backoff]
+        return (long) (backoff * (1 - retry.jitter() * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    private static Counter retryCounter(MeterRegistry meterRegistry, BeerOperation operation, String outcome) {
+        return Counter.builder("beer.client.retries")
+                .tag("operation", operation.operationName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,75 @@
+package guru.springframework.spring6resttemplate.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNullElse;
+
+/**
+ * {@code rest.template.resilience.*}: timeouts, retry, circuit breaker, bulkhead and adaptive limiter settings of the
+ * beer client.
+ * <p>
+ * Timeouts are resolved per {@link BeerOperation}: an entry under {@code operations.<operation>} overrides
+ * {@code defaults} field by field, e.g. {@code operations.get-beer-by-id.read-timeout=2s}.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@ConfigurationProperties("rest.template.resilience")
+public record ResilienceProperties(Duration connectTimeout,
+                                   Duration connectionRequestTimeout,
+                                   OperationTimeouts defaults,
+                                   Map<BeerOperation, OperationTimeouts> operations,
+                                   RetrySettings retry,
+                                   CircuitBreakerSettings circuitBreaker,
+                                   BulkheadSettings bulkhead,
+                                   LimiterSettings limiter) {
+
+    public ResilienceProperties {
+        operations = operations == null ? Map.of() : Map.copyOf(operations);
+    }
+
+    public OperationTimeouts timeouts(BeerOperation operation) {
+        OperationTimeouts override = operations.get(operation);
+        if (override == null) {
+            return defaults;
+        }
+        return new OperationTimeouts(requireNonNullElse(override.readTimeout(), defaults.readTimeout()),
+                requireNonNullElse(override.totalTimeout(), defaults.totalTimeout()));
+    }
+
+    /**
+     * @param readTimeout  longest wait for the response to each attempt
+     * @param totalTimeout deadline for the call including retries and backoff
+     */
+    public record OperationTimeouts(Duration readTimeout, Duration totalTimeout) {
+    }
+
+    /**
+     * @param jitter            fraction of each backoff that is randomized, 0 to 1
+     * @param budgetRatio       retries allowed as a fraction of requests
+     * @param minRetriesPerSecond retries always allowed regardless of the ratio, so quiet clients can still retry
+     */
+    public record RetrySettings(int maxAttempts, Duration initialBackoff, double multiplier, Duration maxBackoff,
+                                double jitter, double budgetRatio, int minRetriesPerSecond) {
+    }
+
+    public record CircuitBreakerSettings(float failureRateThreshold, int slidingWindowSize, int minimumNumberOfCalls,
+                                         Duration waitDurationInOpenState, int permittedCallsInHalfOpenState) {
+    }
+
+    public record BulkheadSettings(int maxConcurrentCalls, Duration maxWait) {
+    }
+
+    /**
+     * @param initialLimit concurrent calls allowed before the limiter has seen any
+     * @param backoffRatio factor the limit is multiplied by on a failed or slow call, 0 to 1
+     * @param tolerance    how many times its baseline latency a call may take before it counts as slow
+     * @param maxWait      longest wait for a slot before the call is rejected
+     */
+    public record LimiterSettings(boolean enabled, int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                  double tolerance, Duration maxWait) {
+    }
+}
@@ -1,22 +1,44 @@
 package guru.springframework.spring6resttemplate.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.web.client.RestTemplateBuilderConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientProviderBuilder;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
+ * The transport behind {@code beerClientRequestFactory} is chosen with {@code rest.template.transport}:
+ * {@code apache} (default, {@link HttpClientConfig}) or {@code jdk-http2} ({@link JdkHttpClientConfig}).
+ * <p>
+ * With {@code rest.template.load-balancer.endpoints} set, {@code rest.template.rootUrl} becomes a logical base URL
+ * and requests are spread over the listed replicas by {@link LoadBalancingClientHttpRequestFactory}.
+ * <p>
+ * With {@code rest.template.smile.enabled}, a Smile converter is placed ahead of the JSON one. Responses
+ * are then requested as {@code application/x-jackson-smile} first, and servers without Smile support
+ * answer in JSON.
+ *
  * @author john
  * @since 16/08/2024
  */
 @Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
 public class RestTemplateBuilderConfig {
   /*  @Value("${beer.webservice.base.url}")
     private String baseURL;*/
@@ -31,6 +53,21 @@ public class RestTemplateBuilderConfig {
     @Value("${rest.template.rootUrl}")
     String rootUrl;
 
+    @Value("${rest.template.smile.enabled}")
+    boolean smileEnabled;
+
+    @Value("${rest.template.load-balancer.endpoints}")
+    List<String> endpoints;
+
+    @Value("${rest.template.load-balancer.max-failures}")
+    int maxFailures;
+
+    @Value("${rest.template.load-balancer.ejection-time}")
+    Duration ejectionTime;
+
+    @Value("${rest.template.load-balancer.decay}")
+    Duration decay;
+
     @Bean
     OAuth2AuthorizedClientManager auth2AuthorizedClientManager(ClientRegistrationRepository clientRegistrationRepository,
                                                                OAuth2AuthorizedClientService oAuth2AuthorizedClientService ){
@@ -46,12 +83,51 @@ public class RestTemplateBuilderConfig {
 
     @Bean
     RestTemplateBuilder restTemplateBuilder(RestTemplateBuilderConfigurer configurer,
-                                            OAuthClientInterceptor interceptor){
+                                            OAuthClientInterceptor interceptor,
+                                            LoggingClientHttpRequestInterceptor loggingInterceptor,
+                                            MetricsClientHttpRequestInterceptor metricsInterceptor,
+                                            CompressionClientHttpRequestInterceptor compressionInterceptor,
+                                            ConcurrencyLimitClientHttpRequestInterceptor limitInterceptor,
+                                            ResilienceClientHttpRequestInterceptor resilienceInterceptor,
+                                            HedgingClientHttpRequestInterceptor hedgingInterceptor,
+                                            ClientHttpRequestFactory beerClientRequestFactory,
+                                            ObjectMapper objectMapper,
+                                            MeterRegistry meterRegistry){
 
         assert rootUrl != null;
 
+        ClientHttpRequestFactory requestFactory = endpoints.isEmpty() ? beerClientRequestFactory
+                : new LoadBalancingClientHttpRequestFactory(rootUrl, endpoints, beerClientRequestFactory,
+                        maxFailures, ejectionTime, decay, meterRegistry);
+
+        TimedMappingJackson2HttpMessageConverter jsonConverter =
+                new TimedMappingJackson2HttpMessageConverter(objectMapper, meterRegistry);
+        TimedMappingJackson2SmileHttpMessageConverter smileConverter =
+                new TimedMappingJackson2SmileHttpMessageConverter(objectMapper, meterRegistry);
+
         return configurer.configure(new RestTemplateBuilder())
-                .additionalInterceptors(interceptor)
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(loggingInterceptor, metricsInterceptor, compressionInterceptor, limitInterceptor,
+                        resilienceInterceptor, interceptor, hedgingInterceptor)
+                .additionalCustomizers(restTemplate -> {
+                    List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
+                    // the default Smile converter, registered whenever Smile is on the classpath, would also write
+                    converters.removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+                    converters.replaceAll(converter ->
+                            converter instanceof MappingJackson2HttpMessageConverter ? jsonConverter : converter);
+                    if (smileEnabled) {
+                        converters.add(converters.indexOf(jsonConverter), smileConverter);
+                    }
+                })
                 .uriTemplateHandler(new DefaultUriBuilderFactory(rootUrl));
     }
+
+    /**
+     * RestTemplate is thread-safe once configured, so the beer client shares a single
+     * instance instead of rebuilding converters and interceptors on every call.
+     */
+    @Bean
+    RestTemplate beerRestTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return restTemplateBuilder.build();
+    }
 }
@@ -0,0 +1,69 @@
+package guru.springframework.spring6resttemplate.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps retries at a fraction of the requests sent, so that retries cannot multiply the load on a
+ * service that is already failing.
+ * <p>
+ * Every request deposits {@code ratio} of a retry into a bucket holding at most {@code ratio * 1000}
+ * retries; a retry withdraws one. On top of that, {@code minRetriesPerSecond} retries are allowed
+ * in each second so a client with little traffic can still retry.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+class RetryBudget {
+
+    private static final long UNIT = 1_000;
+    private static final long BUCKET_REQUESTS = 1_000;
+
+    private final long deposit;
+    private final long capacity;
+    private final int minRetriesPerSecond;
+    private final AtomicLong balance = new AtomicLong();
+    private final AtomicLong reserve = new AtomicLong();
+
+    RetryBudget(double ratio, int minRetriesPerSecond) {
+        this.deposit = Math.round(ratio * UNIT);
+        this.capacity = Math.max(UNIT, deposit * BUCKET_REQUESTS);
+        this.minRetriesPerSecond = minRetriesPerSecond;
+    }
+
+    void onRequest() {
+        if (deposit > 0) {
+            balance.getAndUpdate(current -> Math.min(capacity, current + deposit));
+        }
+    }
+
+    boolean tryAcquire() {
+        return tryAcquireReserve() || tryWithdraw();
+    }
+
+    private boolean tryAcquireReserve() {
+        // high bits hold the second, low 32 bits the retries taken from the reserve in that second
+        long second = System.nanoTime() / 1_000_000_000L & 0xFFFF_FFFFL;
+        while (true) {
+            long current = reserve.get();
+            long used = current >>> 32 == second ? current & 0xFFFF_FFFFL : 0;
+            if (used >= minRetriesPerSecond) {
+                return false;
+            }
+            if (reserve.compareAndSet(current, second << 32 | (used + 1))) {
+                return true;
+            }
+        }
+    }
+
+    private boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < UNIT) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNIT)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package guru.springframework.spring6resttemplate.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson converter that records {@code beer.client.json} per direction, separating (de)serialization
+ * time from the time spent waiting for the server in {@code beer.client.requests}. The timer is tagged
+ * with the wire {@code format}, {@code json} here and {@code smile} for
+ * {@link TimedMappingJackson2SmileHttpMessageConverter}.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public class TimedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public static final String JSON_TIMER = "beer.client.json";
+
+    private final Timer readTimer;
+    private final Timer writeTimer;
+
+    public TimedMappingJackson2HttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.readTimer = jsonTimer(meterRegistry, "read");
+        this.writeTimer = jsonTimer(meterRegistry, "write");
+    }
+
+    public static Timer jsonTimer(MeterRegistry meterRegistry, String direction) {
+        return jsonTimer(meterRegistry, "json", direction);
+    }
+
+    public static Timer jsonTimer(MeterRegistry meterRegistry, String format, String direction) {
+        return Timer.builder(JSON_TIMER)
+                .tag("format", format)
+                .tag("direction", direction)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        long start = System.nanoTime();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package guru.springframework.spring6resttemplate.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Smile counterpart of {@link TimedMappingJackson2HttpMessageConverter}. It copies the application's JSON
+ * {@link ObjectMapper}, so modules and features stay the same, and records {@code beer.client.json} with
+ * {@code format=smile}.
+ * <p>
+ * It only reads. A client cannot know whether the server accepts Smile before it sends a body, so
+ * request bodies stay JSON.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+public class TimedMappingJackson2SmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    private final Timer readTimer;
+
+    public TimedMappingJackson2SmileHttpMessageConverter(ObjectMapper jsonMapper, MeterRegistry meterRegistry) {
+        super(jsonMapper.copyWith(new SmileFactory()));
+        this.readTimer = TimedMappingJackson2HttpMessageConverter.jsonTimer(meterRegistry, "smile", "read");
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        long start = System.nanoTime();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package guru.springframework.spring6resttemplate.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.oauth2.client.AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.InMemoryReactiveOAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientProviderBuilder;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.client.registration.InMemoryReactiveClientRegistrationRepository;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.security.oauth2.client.web.reactive.function.client.ServerOAuth2AuthorizedClientExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking counterpart of {@link RestTemplateBuilderConfig} and {@link HttpClientConfig} for the
+ * reactive beer client: same root URL, OAuth2 client registration, pool limits and timeouts, on
+ * Reactor Netty instead of Apache HttpClient.
+ *
+ * @author john
+ * @since 18/10/2026
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Value("${rest.template.rootUrl}")
+    String rootUrl;
+
+    @Value("${rest.template.pool.max-total}")
+    int maxTotal;
+
+    @Value("${rest.template.pool.time-to-live}")
+    Duration timeToLive;
+
+    @Value("${rest.template.pool.idle-eviction}")
+    Duration idleEviction;
+
+    /**
+     * The servlet application has no reactive client registrations of its own, so the
+     * {@code springauth} registration is shared with the blocking client.
+     */
+    @Bean
+    ReactiveOAuth2AuthorizedClientManager reactiveAuthorizedClientManager(ClientRegistrationRepository clientRegistrationRepository) {
+        ReactiveClientRegistrationRepository reactiveClientRegistrationRepository = new InMemoryReactiveClientRegistrationRepository(
+                clientRegistrationRepository.findByRegistrationId(OAuthClientInterceptor.SPRINGAUTH));
+
+        var authorizedClientManager = new AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager(
+                reactiveClientRegistrationRepository,
+                new InMemoryReactiveOAuth2AuthorizedClientService(reactiveClientRegistrationRepository));
+        authorizedClientManager.setAuthorizedClientProvider(ReactiveOAuth2AuthorizedClientProviderBuilder.builder()
+                .clientCredentials()
+                .build());
+        return authorizedClientManager;
+    }
+
+    @Bean
+    WebClient beerWebClient(WebClient.Builder webClientBuilder,
+                            ReactiveOAuth2AuthorizedClientManager reactiveAuthorizedClientManager,
+                            ResilienceProperties resilienceProperties) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("beer-client")
+                .maxConnections(maxTotal)
+                .pendingAcquireTimeout(resilienceProperties.connectionRequestTimeout())
+                .maxLifeTime(timeToLive)
+                .maxIdleTime(idleEviction)
+                .evictInBackground(idleEviction)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) resilienceProperties.connectTimeout().toMillis())
+                .compress(true);
+
+        var oauth = new ServerOAuth2AuthorizedClientExchangeFilterFunction(reactiveAuthorizedClientManager);
+        oauth.setDefaultClientRegistrationId(OAuthClientInterceptor.SPRINGAUTH);
+
+        return webClientBuilder
+                .baseUrl(rootUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(oauth)
+                .build();
+    }
+}
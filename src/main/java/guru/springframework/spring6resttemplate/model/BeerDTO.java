@@ -11,7 +11,7 @@ import java.util.UUID;
 /**
  * Created by jt, Spring Framework Guru.
  */
-@Builder
+@Builder(toBuilder = true)
 @Data
 public class BeerDTO {
     private UUID id;
@@ -0,0 +1,145 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static guru.springframework.spring6resttemplate.model.BeerStyle.WHEAT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class AsyncBeerClientImplTest {
+
+    @Mock
+    BeerClient beerClient;
+
+    ExecutorService executor;
+
+    AsyncBeerClient asyncBeerClient;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        asyncBeerClient = new AsyncBeerClientImpl(beerClient, executor, 4, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void getBeerByIdFanOutRespectsConcurrencyLimit() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(beerClient.getBeerById(anyString())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return BeerDTO.builder().id(UUID.fromString(invocation.getArgument(0))).beerName("Stella").beerStyle(WHEAT).build();
+        });
+
+        List<CompletableFuture<BeerDTO>> futures = IntStream.range(0, 100)
+                .mapToObj(i -> asyncBeerClient.getBeerById(UUID.randomUUID().toString()))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().getBeerName()).isEqualTo("Stella"));
+        assertThat(maxInFlight.get()).isBetween(1, 4);
+        log.info("Max in flight: {}", maxInFlight.get());
+    }
+
+    @Test
+    void streamAllBeersEmitsEveryPageInOrder() {
+        when(beerClient.listBeers(anyMap())).thenAnswer(invocation -> {
+            Map<String, String> parameters = invocation.getArgument(0);
+            int pageNumber = Integer.parseInt(parameters.get("pageNumber"));
+            assertThat(parameters).containsEntry("beerStyle", "WHEAT");
+            return new BeerDTOPage(pageNumber - 1, 2, 5, 10, List.of(
+                    BeerDTO.builder().beerName("Beer " + (pageNumber * 2 - 1)).build(),
+                    BeerDTO.builder().beerName("Beer " + pageNumber * 2).build()));
+        });
+
+        try (Stream<BeerDTO> beers = asyncBeerClient.streamAllBeers(Map.of("beerStyle", "WHEAT"))) {
+            assertThat(beers.map(BeerDTO::getBeerName)).containsExactly(
+                    IntStream.rangeClosed(1, 10).mapToObj(i -> "Beer " + i).toArray(String[]::new));
+        }
+        verify(beerClient, times(5)).listBeers(anyMap());
+    }
+
+    @Test
+    void streamAllBeersSkipsNullContentElements() {
+        when(beerClient.listBeers(anyMap())).thenReturn(new BeerDTOPage(0, 3, 1, 2, Arrays.asList(
+                BeerDTO.builder().beerName("Beer 1").build(), null, BeerDTO.builder().beerName("Beer 2").build())));
+
+        try (Stream<BeerDTO> beers = asyncBeerClient.streamAllBeers(Map.of())) {
+            assertThat(beers.map(BeerDTO::getBeerName)).containsExactly("Beer 1", "Beer 2");
+        }
+    }
+
+    @Test
+    void closingTheStreamInterruptsPrefetchedPages() throws InterruptedException {
+        CountDownLatch requested = new CountDownLatch(3);
+        CountDownLatch interrupted = new CountDownLatch(3);
+        when(beerClient.listBeers(anyMap())).thenAnswer(invocation -> {
+            Map<String, String> parameters = invocation.getArgument(0);
+            if (!parameters.get("pageNumber").equals("1")) {
+                requested.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+            }
+            return new BeerDTOPage(0, 2, 5, 10, List.of(BeerDTO.builder().beerName("Beer 1").build()));
+        });
+
+        try (Stream<BeerDTO> beers = asyncBeerClient.streamAllBeers(Map.of())) {
+            assertThat(beers.findFirst()).isPresent();
+            assertThat(requested.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failuresCompleteTheFutureExceptionally() {
+        when(beerClient.getBeerById(anyString())).thenThrow(HttpClientErrorException.NotFound.class);
+
+        CompletableFuture<BeerDTO> future = asyncBeerClient.getBeerById(UUID.randomUUID().toString());
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(HttpClientErrorException.NotFound.class);
+    }
+}
@@ -0,0 +1,228 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static guru.springframework.spring6resttemplate.model.BeerStyle.WHEAT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class BeerBatchClientTest {
+
+    static final UUID FOUND = UUID.randomUUID();
+    static final UUID MISSING = UUID.randomUUID();
+    static final UUID SLOW = UUID.randomUUID();
+
+    @Mock
+    BeerClient beerClient;
+
+    @Mock
+    RestTemplate restTemplate;
+
+    @Mock
+    BeerCache beerCache;
+
+    ExecutorService executor;
+
+    CountDownLatch slowCalls = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowCalls.countDown();
+        executor.shutdownNow();
+    }
+
+    BeerBatchClient batchClient(Duration deadline, String bulkGetPath) {
+        return new BeerBatchClient(beerClient, restTemplate, beerCache, executor, 4, deadline, Duration.ofSeconds(5),
+                bulkGetPath, "", "", "");
+    }
+
+    @Test
+    void getBeersByIdsReturnsPartialResults() {
+        BeerBatchClient batchClient = batchClient(Duration.ofMillis(500), "");
+        when(beerClient.getBeerById(anyString())).thenAnswer(invocation -> {
+            UUID beerId = UUID.fromString(invocation.getArgument(0));
+            if (beerId.equals(MISSING)) {
+                throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+            }
+            if (beerId.equals(SLOW)) {
+                slowCalls.await();
+            }
+            return BeerDTO.builder().id(beerId).beerName("Stella").beerStyle(WHEAT).build();
+        });
+
+        BeerBatchResult<UUID, BeerDTO> result = batchClient.getBeersByIds(List.of(FOUND, MISSING, SLOW));
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.results()).containsOnlyKeys(FOUND);
+        assertThat(result.failures()).containsOnlyKeys(MISSING, SLOW);
+        assertThat(result.failures().get(MISSING)).isInstanceOf(HttpClientErrorException.NotFound.class);
+        assertThat(result.failures().get(SLOW)).isInstanceOf(TimeoutException.class);
+        log.info("Batch result: {}", result);
+    }
+
+    @Test
+    void getBeersByIdsUsesBulkEndpointWhenConfigured() {
+        BeerBatchClient batchClient = batchClient(Duration.ofSeconds(1), "beer/bulk");
+        when(restTemplate.postForObject(eq("beer/bulk"), any(), eq(BeerDTO[].class)))
+                .thenReturn(new BeerDTO[]{BeerDTO.builder().id(FOUND).beerName("Stella").beerStyle(WHEAT).build()});
+
+        BeerBatchResult<UUID, BeerDTO> result = batchClient.getBeersByIds(List.of(FOUND, MISSING));
+
+        assertThat(result.results()).containsOnlyKeys(FOUND);
+        assertThat(result.failures()).containsOnlyKeys(MISSING);
+        assertThat(result.failures().get(MISSING)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void bulkGetHonoursTheDeadline() {
+        BeerBatchClient batchClient = batchClient(Duration.ofMillis(200), "beer/bulk");
+        when(restTemplate.postForObject(eq("beer/bulk"), any(), eq(BeerDTO[].class))).thenAnswer(invocation -> {
+            slowCalls.await();
+            return new BeerDTO[0];
+        });
+
+        BeerBatchResult<UUID, BeerDTO> result = batchClient.getBeersByIds(List.of(FOUND, MISSING));
+
+        assertThat(result.results()).isEmpty();
+        assertThat(result.failures()).containsOnlyKeys(FOUND, MISSING);
+        assertThat(result.failures().values()).allSatisfy(failure -> assertThat(failure).isInstanceOf(TimeoutException.class));
+    }
+
+    @Test
+    void bulkGetSkipsNullBeersAndIds() {
+        BeerBatchClient batchClient = batchClient(Duration.ofSeconds(1), "beer/bulk");
+        when(restTemplate.postForObject(eq("beer/bulk"), any(), eq(BeerDTO[].class))).thenReturn(new BeerDTO[]{
+                null, BeerDTO.builder().beerName("No id").build(), BeerDTO.builder().id(FOUND).beerName("Stella").build()});
+
+        BeerBatchResult<UUID, BeerDTO> result = batchClient.getBeersByIds(List.of(FOUND, MISSING));
+
+        assertThat(result.results()).containsOnlyKeys(FOUND);
+        assertThat(result.failures()).containsOnlyKeys(MISSING);
+    }
+
+    @Test
+    void bulkCreateMissingTheWriteDeadlineHasAnUnknownOutcome() {
+        BeerBatchClient batchClient = new BeerBatchClient(beerClient, restTemplate, beerCache, executor, 4,
+                Duration.ofSeconds(1), Duration.ofMillis(200), "", "beer/bulk-create", "", "");
+        when(restTemplate.postForObject(eq("beer/bulk-create"), any(), eq(BeerDTO[].class))).thenAnswer(invocation -> {
+            slowCalls.await();
+            return new BeerDTO[0];
+        });
+
+        BeerBatchResult<Integer, BeerDTO> result = batchClient.createBeers(List.of(
+                BeerDTO.builder().beerName("Stella").beerStyle(WHEAT).build()));
+
+        assertThat(result.results()).isEmpty();
+        assertThat(result.failures().get(0)).isInstanceOf(OutcomeUnknownException.class);
+    }
+
+    @Test
+    void createBeersKeysResultsByPosition() {
+        BeerBatchClient batchClient = batchClient(Duration.ofSeconds(1), "");
+        when(beerClient.createBeer(any())).thenAnswer(invocation -> {
+            BeerDTO newBeer = invocation.getArgument(0);
+            if (newBeer.getBeerName() == null) {
+                throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null);
+            }
+            return newBeer.toBuilder().id(UUID.randomUUID()).build();
+        });
+
+        BeerBatchResult<Integer, BeerDTO> result = batchClient.createBeers(List.of(
+                BeerDTO.builder().beerName("Stella").beerStyle(WHEAT).build(),
+                BeerDTO.builder().beerStyle(WHEAT).build()));
+
+        assertThat(result.results()).containsOnlyKeys(0);
+        assertThat(result.results().get(0).getId()).isNotNull();
+        assertThat(result.failures()).containsOnlyKeys(1);
+    }
+
+    @Test
+    void createBeersInFlightAtTheDeadlineHaveAnUnknownOutcome() throws InterruptedException {
+        BeerBatchClient batchClient = new BeerBatchClient(beerClient, restTemplate, beerCache, executor, 1,
+                Duration.ofSeconds(1), Duration.ofMillis(200), "", "", "", "");
+        when(beerClient.createBeer(any())).thenAnswer(invocation -> {
+            slowCalls.await();
+            return invocation.getArgument(0);
+        });
+
+        BeerBatchResult<Integer, BeerDTO> result = batchClient.createBeers(List.of(
+                BeerDTO.builder().beerName("Stella").beerStyle(WHEAT).build(),
+                BeerDTO.builder().beerName("Leffe").beerStyle(WHEAT).build()));
+
+        assertThat(result.results()).isEmpty();
+        assertThat(result.failures().get(0)).isInstanceOf(OutcomeUnknownException.class);
+        assertThat(result.failures().get(1)).isInstanceOf(TimeoutException.class);
+        slowCalls.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        verify(beerClient, times(1)).createBeer(any());
+    }
+
+    @Test
+    void updateBeersDefersReadBack() {
+        BeerBatchClient batchClient = batchClient(Duration.ofSeconds(1), "");
+        BeerDTO beer = BeerDTO.builder().id(FOUND).beerName("Stella").beerStyle(WHEAT).build();
+        doThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null))
+                .when(beerClient).replaceBeer(eq(MISSING.toString()), any());
+        when(beerClient.getBeerById(FOUND.toString())).thenReturn(beer.toBuilder().version(2).build());
+
+        BeerBatchResult<String, BeerDTO> result = batchClient.updateBeers(
+                Map.of(FOUND.toString(), beer, MISSING.toString(), beer), ReadBack.DEFERRED);
+
+        assertThat(result.results()).containsOnlyKeys(FOUND.toString());
+        assertThat(result.results().get(FOUND.toString()).getVersion()).isEqualTo(2);
+        assertThat(result.failures()).containsOnlyKeys(MISSING.toString());
+        verify(beerClient, never()).updateBeer(anyString(), any());
+    }
+
+    @Test
+    void updateBeersWithoutReadBackSkipsGets() {
+        BeerBatchClient batchClient = batchClient(Duration.ofSeconds(1), "");
+        BeerDTO beer = BeerDTO.builder().id(FOUND).beerName("Stella").beerStyle(WHEAT).build();
+
+        BeerBatchResult<String, BeerDTO> result = batchClient.updateBeers(Map.of(FOUND.toString(), beer), ReadBack.NONE);
+
+        assertThat(result.results()).containsEntry(FOUND.toString(), beer);
+        verify(beerClient).replaceBeer(FOUND.toString(), beer);
+        verify(beerClient, never()).getBeerById(anyString());
+    }
+}
@@ -0,0 +1,53 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static guru.springframework.spring6resttemplate.model.BeerStyle.WHEAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class BeerCacheTest {
+
+    static final String BEER_ID = UUID.randomUUID().toString();
+
+    BeerCache beerCache = new BeerCache(100, Duration.ofSeconds(30), Duration.ofMinutes(10), new SimpleMeterRegistry());
+    BeerDTO stella = BeerDTO.builder().beerName("Stella").beerStyle(WHEAT).version(1).build();
+
+    @Test
+    void readFromTheCurrentGenerationIsStored() {
+        long generation = beerCache.generation(BEER_ID);
+
+        beerCache.put(BEER_ID, stella, null, generation);
+
+        assertThat(beerCache.get(BEER_ID).beer()).isEqualTo(stella);
+    }
+
+    @Test
+    void readThatOverlappedAnInvalidationIsNotStored() {
+        long generation = beerCache.generation(BEER_ID);
+        // the write lands while the GET is in flight
+        beerCache.invalidate(BEER_ID);
+
+        BeerDTO returned = beerCache.put(BEER_ID, stella, null, generation);
+
+        assertThat(returned).isEqualTo(stella);
+        assertThat(beerCache.get(BEER_ID)).isNull();
+    }
+
+    @Test
+    void writeIsStoredRegardlessOfGeneration() {
+        beerCache.invalidate(BEER_ID);
+
+        beerCache.put(BEER_ID, stella, null);
+
+        assertThat(beerCache.get(BEER_ID).beer()).isEqualTo(stella);
+    }
+}
@@ -0,0 +1,164 @@
+package guru.springframework.spring6resttemplate.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import guru.springframework.spring6resttemplate.model.BeerStyle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static guru.springframework.spring6resttemplate.model.BeerStyle.ALE;
+import static guru.springframework.spring6resttemplate.model.BeerStyle.WHEAT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+@ExtendWith(MockitoExtension.class)
+class BeerCatalogReplicaTest {
+
+    static final LocalDateTime UPDATED = LocalDateTime.of(2026, 10, 18, 9, 0);
+    static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    BeerClientImpl beerClient;
+
+    @TempDir
+    Path tempDir;
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    BeerDTO stella = beer("Stella", WHEAT, 0, UPDATED);
+    BeerDTO leffe = beer("Leffe", ALE, 0, UPDATED.minusHours(1));
+
+    @Test
+    void fullSyncIndexesByIdNameAndStyle() {
+        BeerCatalogReplica replica = replica(null);
+        serve(stella, leffe);
+
+        replica.sync();
+
+        assertThat(replica.isFresh()).isTrue();
+        assertThat(replica.get(stella.getId().toString())).isEqualTo(stella);
+        assertThat(replica.findByName("stella")).containsExactly(stella);
+        assertThat(replica.findByStyle(ALE)).containsExactly(leffe);
+    }
+
+    @Test
+    void findMatchesNamesContainingTheFilterAndTheStyle() {
+        BeerCatalogReplica replica = replica(null);
+        BeerDTO paleAle = beer("Pale Ale", ALE, 0, UPDATED);
+        serve(stella, leffe, paleAle);
+
+        replica.sync();
+
+        assertThat(replica.find("LE", null)).containsExactly(leffe, paleAle);
+        assertThat(replica.find("le", ALE)).containsExactly(leffe, paleAle);
+        assertThat(replica.find("stel", ALE)).isEmpty();
+        assertThat(replica.find(null, WHEAT)).containsExactly(stella);
+    }
+
+    @Test
+    void incrementalSyncFetchesBeersUpdatedSinceWatermark() {
+        BeerCatalogReplica replica = replica(null);
+        serve(stella, leffe);
+        replica.sync();
+
+        BeerDTO restyled = stella.toBuilder().beerStyle(ALE).version(1).updateDate(UPDATED.plusMinutes(5)).build();
+        serve(restyled);
+        replica.sync();
+
+        ArgumentCaptor<BeerQuery> queries = ArgumentCaptor.forClass(BeerQuery.class);
+        verify(beerClient, times(2)).listBeers(queries.capture(), any());
+        assertThat(queries.getAllValues().get(0).updatedSince()).isNull();
+        assertThat(queries.getAllValues().get(1).updatedSince()).isEqualTo(UPDATED);
+        assertThat(replica.findByStyle(WHEAT)).isEmpty();
+        assertThat(replica.findByStyle(ALE)).containsExactlyInAnyOrder(leffe, restyled);
+        // the incremental sync does not drop beers it did not receive
+        assertThat(replica.get(leffe.getId().toString())).isEqualTo(leffe);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fullSyncKeepsBeersStoredWhileItRuns() {
+        BeerCatalogReplica replica = replica(null);
+        BeerDTO created = beer("Duvel", ALE, 0, UPDATED.plusMinutes(1));
+        doAnswer(invocation -> {
+            Consumer<BeerDTO> consumer = invocation.getArgument(1);
+            consumer.accept(stella.toBuilder().build());
+            // created through the client after the page holding it was read
+            replica.upsert(created);
+            return new BeerDTOPage(1, 100, 1, 1, List.of());
+        }).when(beerClient).listBeers(any(BeerQuery.class), any(Consumer.class));
+
+        replica.sync();
+
+        assertThat(replica.get(created.getId().toString())).isEqualTo(created);
+        assertThat(replica.get(stella.getId().toString())).isEqualTo(stella);
+    }
+
+    @Test
+    void syncSkipsBeersWithoutId() {
+        BeerCatalogReplica replica = replica(null);
+        serve(stella, beer("Anonymous", ALE, 0, UPDATED).toBuilder().id(null).build());
+
+        replica.sync();
+
+        assertThat(replica.isFresh()).isTrue();
+        assertThat(replica.find(null, null)).containsExactly(stella);
+    }
+
+    @Test
+    void snapshotIsLoadedOnWarmStart() throws Exception {
+        Path snapshotFile = tempDir.resolve("catalog.json");
+        BeerCatalogReplica replica = replica(snapshotFile);
+        serve(stella, leffe);
+        replica.sync();
+        replica.snapshot();
+
+        BeerCatalogReplica restarted = replica(snapshotFile);
+        restarted.loadSnapshot();
+
+        assertThat(restarted.isFresh()).isTrue();
+        assertThat(restarted.findByName("Leffe")).containsExactly(leffe);
+    }
+
+    BeerCatalogReplica replica(Path snapshotFile) {
+        return new BeerCatalogReplica(beerClient, objectMapper, new SimpleMeterRegistry(), CLOCK, Duration.ofMinutes(1),
+                Duration.ofHours(1), Duration.ofMinutes(5), 100, snapshotFile, Duration.ofMinutes(10));
+    }
+
+    @SuppressWarnings("unchecked")
+    void serve(BeerDTO... beers) {
+        doAnswer(invocation -> {
+            Consumer<BeerDTO> consumer = invocation.getArgument(1);
+            List.of(beers).forEach(beer -> consumer.accept(beer.toBuilder().build()));
+            return new BeerDTOPage(1, 100, 1, beers.length, List.of());
+        }).when(beerClient).listBeers(any(BeerQuery.class), any(Consumer.class));
+    }
+
+    static BeerDTO beer(String beerName, BeerStyle beerStyle, int version, LocalDateTime updateDate) {
+        return BeerDTO.builder().id(UUID.randomUUID()).version(version).beerName(beerName).beerStyle(beerStyle)
+                .createdDate(updateDate).updateDate(updateDate).build();
+    }
+}
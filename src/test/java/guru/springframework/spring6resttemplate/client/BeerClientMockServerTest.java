@@ -2,10 +2,12 @@ package guru.springframework.spring6resttemplate.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import guru.springframework.spring6resttemplate.config.OAuthClientInterceptor;
 import guru.springframework.spring6resttemplate.model.BeerDTO;
 import guru.springframework.spring6resttemplate.model.BeerDTOPage;
 import guru.springframework.spring6resttemplate.model.BeerStyle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,13 +16,14 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.core.AuthorizationGrantType;
@@ -34,8 +37,10 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.math.BigDecimal;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -67,8 +72,7 @@ public class BeerClientMockServerTest {
 
     BeerClient beerClient;
 
-    @Mock
-    RestTemplateBuilder restTemplateBuilder;
+    RestTemplate restTemplate;
 
     MockRestServiceServer mockServer;
 
@@ -78,6 +82,9 @@ public class BeerClientMockServerTest {
     @Mock
     OAuth2AuthorizedClientManager oAuth2AuthorizedClientManager;
 
+    @Mock
+    OAuth2AuthorizedClientService oAuth2AuthorizedClientService;
+
     @Mock
     ClientRegistrationRepository clientRegistrationRepository;
 
@@ -90,16 +97,17 @@ public class BeerClientMockServerTest {
                 .thenReturn(new OAuth2AuthorizedClient(CLIENT_REGISTRATION, "test",
                         new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, TOKEN, Instant.MIN, Instant.MAX)));
 
-        oAuthClientInterceptor = new OAuthClientInterceptor(oAuth2AuthorizedClientManager);
+        oAuthClientInterceptor = new OAuthClientInterceptor(oAuth2AuthorizedClientManager, oAuth2AuthorizedClientService,
+                new SimpleMeterRegistry());
 
 
-        RestTemplate restTemplate = new RestTemplate();
+        restTemplate = new RestTemplate();
         restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(ROOT_URL));
         // restTemplate.getInterceptors().add(new BasicAuthenticationInterceptor("restadmin", "password"));
         restTemplate.getInterceptors().add(oAuthClientInterceptor);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         mockServer = MockRestServiceServer.createServer(restTemplate);
-        beerClient = new BeerClientImpl(restTemplateBuilder);
+        beerClient = new BeerClientImpl(restTemplate, new BeerJsonCodec(objectMapper, new SimpleMeterRegistry()),
+                new BeerCache(100, Duration.ofSeconds(30), Duration.ofMinutes(10), new SimpleMeterRegistry()));
     }
 
 
@@ -160,6 +168,35 @@ public class BeerClientMockServerTest {
         log.info(String.valueOf(beerDTOPage));
     }
 
+    @Test
+    void listBeersStreaming() throws JsonProcessingException {
+        //Given
+        BeerDTOPage page = new BeerDTOPage(0, 3, 4, 12, List.of(
+                BeerDTO.builder().id(UUID.randomUUID()).beerName("Stella").beerStyle(BeerStyle.WHEAT).price(BigDecimal.valueOf(12.12)).upc("98765432")
+                        .version(0).quantityOnHand(200).createdDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build(),
+                BeerDTO.builder().id(UUID.randomUUID()).beerName("Guinness").beerStyle(BeerStyle.STOUT).price(BigDecimal.valueOf(9.50)).upc("12345678")
+                        .version(0).quantityOnHand(100).createdDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build(),
+                BeerDTO.builder().id(UUID.randomUUID()).beerName("Leffe").beerStyle(BeerStyle.ALE).price(BigDecimal.valueOf(7.25)).upc("24681357")
+                        .version(0).quantityOnHand(50).createdDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build()));
+
+        URI uri = UriComponentsBuilder.fromHttpUrl(BEER_URL).queryParam("pageSize", "3").build().toUri();
+
+        //When
+        mockServer.expect(requestTo(uri)).andExpect(method(HttpMethod.GET))
+                .andExpect(header("Authorization", AUTH_BEARER_TOKEN))
+                .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON)
+                        .body(objectMapper.writeValueAsString(page)));
+        List<BeerDTO> beers = new ArrayList<>();
+        BeerDTOPage beerDTOPage = beerClient.listBeers(Map.of("pageSize", "3"), beers::add);
+
+        //Then
+        mockServer.verify();
+        assertThat(beerDTOPage.getPageSize()).isEqualTo(3);
+        assertThat(beerDTOPage.getTotalPages()).isEqualTo(4);
+        assertThat(beerDTOPage.getTotalElements()).isEqualTo(12);
+        assertThat(beerDTOPage.getBeers()).isEmpty();
+        assertThat(beers).extracting(BeerDTO::getBeerName).containsExactly("Stella", "Guinness", "Leffe");
+    }
 
     @Test
     void getBeerWithId() throws JsonProcessingException {
@@ -185,6 +222,94 @@ public class BeerClientMockServerTest {
         log.info(String.valueOf(beerDTO));
     }
 
+    @Test
+    void getBeerWithIdIsServedFromCache() throws JsonProcessingException {
+        // Given
+        BeerDTO stella = BeerDTO.builder().id(UUID.randomUUID()).beerName("Stella").beerStyle(BeerStyle.WHEAT).price(BigDecimal.valueOf(12.12)).upc("98765432")
+                .version(0).quantityOnHand(200).build();
+        // When
+        mockServer.expect(ExpectedCount.once(),
+                        requestTo(BEER_URL + "/" + stella.getId().toString()))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).
+                        body(objectMapper.writeValueAsString(stella)));
+        BeerDTO first = beerClient.getBeerById(stella.getId().toString());
+        first.setBeerName("Changed by caller");
+        BeerDTO second = beerClient.getBeerById(stella.getId().toString());
+
+        //Then
+        mockServer.verify();
+        assertThat(second.getBeerName()).isEqualTo("Stella");
+    }
+
+    @Test
+    void listBeersSkipsNullContentElements() {
+        // Given
+        String page = """
+                {"content":[{"beerName":"Stella"},null,{"beerName":"Leffe"}],"totalElements":2,"totalPages":1}""";
+        // When
+        mockServer.expect(ExpectedCount.once(), requestTo(BEER_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(page));
+        List<BeerDTO> beers = new ArrayList<>();
+        BeerDTOPage beerPage = beerClient.listBeers(Map.of(), beers::add);
+        //Then
+        mockServer.verify();
+        assertThat(beers).extracting(BeerDTO::getBeerName).containsExactly("Stella", "Leffe");
+        assertThat(beerPage.getTotalElements()).isEqualTo(2);
+        assertThat(beerPage.getTotalPages()).isEqualTo(1);
+    }
+
+    @Test
+    void listBeersStreamsSmilePage() throws JsonProcessingException {
+        // Given
+        BeerClient smileClient = new BeerClientImpl(restTemplate, new BeerJsonCodec(objectMapper, new SimpleMeterRegistry(), true),
+                new BeerCache(100, Duration.ofSeconds(30), Duration.ofMinutes(10), new SimpleMeterRegistry()));
+        BeerDTOPage stella = new BeerDTOPage(0, 2, 1, 2, List.of(
+                BeerDTO.builder().id(UUID.randomUUID()).beerName("Stella").beerStyle(BeerStyle.WHEAT).price(BigDecimal.valueOf(12.12)).build(),
+                BeerDTO.builder().id(UUID.randomUUID()).beerName("Leffe").beerStyle(BeerStyle.ALE).price(BigDecimal.valueOf(9.5)).build()));
+        // When
+        mockServer.expect(ExpectedCount.once(), requestTo(BEER_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HttpHeaders.ACCEPT, BeerJsonCodec.APPLICATION_SMILE + ", " + MediaType.APPLICATION_JSON))
+                .andRespond(withStatus(HttpStatus.OK).contentType(BeerJsonCodec.APPLICATION_SMILE)
+                        .body(objectMapper.copyWith(new SmileFactory()).writeValueAsBytes(stella)));
+        List<BeerDTO> beers = new ArrayList<>();
+        BeerDTOPage page = smileClient.listBeers(Map.of(), beers::add);
+        //Then
+        mockServer.verify();
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(beers).extracting(BeerDTO::getBeerName).containsExactly("Stella", "Leffe");
+        assertThat(beers.get(1).getPrice()).isEqualByComparingTo("9.5");
+    }
+
+    @Test
+    void getBeerWithIdRevalidatesStaleEntry() throws JsonProcessingException {
+        // Given
+        BeerClient revalidatingClient = new BeerClientImpl(restTemplate, new BeerJsonCodec(objectMapper, new SimpleMeterRegistry()),
+                new BeerCache(100, Duration.ZERO, Duration.ofMinutes(10), new SimpleMeterRegistry()));
+        BeerDTO stella = BeerDTO.builder().id(UUID.randomUUID()).beerName("Stella").beerStyle(BeerStyle.WHEAT).price(BigDecimal.valueOf(12.12)).upc("98765432")
+                .version(3).quantityOnHand(200).build();
+        // When
+        mockServer.expect(ExpectedCount.once(),
+                        requestTo(BEER_URL + "/" + stella.getId().toString()))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).header("ETag", "\"3\"").
+                        body(objectMapper.writeValueAsString(stella)));
+        mockServer.expect(ExpectedCount.once(),
+                        requestTo(BEER_URL + "/" + stella.getId().toString()))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("If-None-Match", "\"3\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        revalidatingClient.getBeerById(stella.getId().toString());
+        BeerDTO beerDTO = revalidatingClient.getBeerById(stella.getId().toString());
+
+        //Then
+        mockServer.verify();
+        assertThat(beerDTO.getId()).isEqualTo(stella.getId());
+        assertThat(beerDTO.getBeerName()).isEqualTo("Stella");
+    }
+
     @Test
     void createBeer() throws JsonProcessingException {
         // Mock response
@@ -228,14 +353,9 @@ public class BeerClientMockServerTest {
                 .andExpect(method(HttpMethod.PUT)).andExpect(content().json(objectMapper.writeValueAsString(updatedBeer)))
                 .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).
                         body(objectMapper.writeValueAsString(updatedBeer)));
-        mockServer.expect(ExpectedCount.once(),
-                        requestToUriTemplate(BEER_URL + "/{beerId}", stella.getId().toString()))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).
-                        body(objectMapper.writeValueAsString(updatedBeer)));
 
         BeerDTO beerDTO = beerClient.updateBeer(stella.getId().toString(), updatedBeer);
-        //Then
+        //Then the beer in the PUT response is used without a GET
         mockServer.verify();
         assertThat(beerDTO).isNotNull();
         assertThat(beerDTO.getId()).isEqualTo(updatedBeer.getId());
@@ -246,6 +366,47 @@ public class BeerClientMockServerTest {
         log.info(String.valueOf(beerDTO));
     }
 
+    @Test
+    void updateBeerWithoutResponseBodyReadsTheBeerBack() throws JsonProcessingException {
+        // Given
+        BeerDTO updatedBeer = BeerDTO.builder().id(UUID.randomUUID()).beerName("Stella updated").beerStyle(BeerStyle.WHEAT)
+                .price(BigDecimal.valueOf(14.00)).upc("98765432").version(1).quantityOnHand(200).build();
+        BeerDTO storedBeer = updatedBeer.toBuilder().version(2).updateDate(LocalDateTime.now()).build();
+        // When
+        mockServer.expect(ExpectedCount.once(),
+                        requestToUriTemplate(BEER_URL + "/{beerId}", updatedBeer.getId().toString()))
+                .andExpect(method(HttpMethod.PUT))
+                .andRespond(withStatus(HttpStatus.NO_CONTENT).header(HttpHeaders.ETAG, "\"2\""));
+        mockServer.expect(ExpectedCount.once(),
+                        requestToUriTemplate(BEER_URL + "/{beerId}", updatedBeer.getId().toString()))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON)
+                        .body(objectMapper.writeValueAsString(storedBeer)));
+
+        BeerDTO beerDTO = beerClient.updateBeer(updatedBeer.getId().toString(), updatedBeer);
+        //Then the server's representation is returned, not the beer as sent
+        mockServer.verify();
+        assertThat(beerDTO.getVersion()).isEqualTo(2);
+        assertThat(beerDTO.getUpdateDate()).isNotNull();
+    }
+
+    @Test
+    void replaceBeerReturnsVersionFromETag() {
+        // Given
+        String beerId = UUID.randomUUID().toString();
+        BeerDTO beer = BeerDTO.builder().beerName("Stella").beerStyle(BeerStyle.WHEAT).build();
+        // When
+        mockServer.expect(ExpectedCount.once(), requestToUriTemplate(BEER_URL + "/{beerId}", beerId))
+                .andExpect(method(HttpMethod.PUT))
+                .andRespond(withStatus(HttpStatus.NO_CONTENT).header(HttpHeaders.ETAG, "W/\"7\""));
+
+        Integer version = beerClient.replaceBeer(beerId, beer);
+        //Then
+        mockServer.verify();
+        assertThat(version).isEqualTo(7);
+    }
+
     @Test
     void deleteBeer() {
         // Given
@@ -1,7 +1,9 @@
 package guru.springframework.spring6resttemplate.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import guru.springframework.spring6resttemplate.model.BeerDTO;
 import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,21 +13,34 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static guru.springframework.spring6resttemplate.model.BeerStyle.WHEAT;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 
@@ -37,18 +52,18 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class BeerClientMockTest {
 
+    static final String ROOT_URL = "http://localhost:8080/api/v1/";
+
     BeerClient beerClient;
 
     @Mock
     RestTemplate restTemplate;
 
-    @Mock
-    RestTemplateBuilder restTemplateBuilder;
-
     @BeforeEach
     void setUp() {
-        beerClient = new BeerClientImpl(restTemplateBuilder);
-        when(restTemplateBuilder.build()).thenReturn(restTemplate);
+        beerClient = new BeerClientImpl(restTemplate, new BeerJsonCodec(new ObjectMapper().findAndRegisterModules(),
+                        new SimpleMeterRegistry()),
+                new BeerCache(100, Duration.ofSeconds(30), Duration.ofMinutes(10), new SimpleMeterRegistry()));
     }
 
     @Test
@@ -56,7 +71,8 @@ public class BeerClientMockTest {
         BeerDTOPage stella = new BeerDTOPage(1, 10, 12, 120,
                 List.of(BeerDTO.builder().id(UUID.randomUUID()).beerName("Stella").beerStyle(WHEAT).price(BigDecimal.valueOf(12.12)).upc("98765432")
                         .version(0).quantityOnHand(200).createdDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build()));
-        Mockito.when(restTemplate.getForEntity(anyString(), any())).thenReturn(ResponseEntity.ofNullable(stella));
+        Mockito.when(restTemplate.getUriTemplateHandler()).thenReturn(new DefaultUriBuilderFactory(ROOT_URL));
+        Mockito.when(restTemplate.getForObject(any(URI.class), eq(BeerDTOPage.class))).thenReturn(stella);
         BeerDTOPage beerDTOPage = beerClient.listBeers(Map.of("pageNumber", "1", "pageSize", "4"));
         assertThat(beerDTOPage).isNotNull();
         assertThat(beerDTOPage.getPageNumber()).isEqualTo(1);
@@ -70,7 +86,8 @@ public class BeerClientMockTest {
         BeerDTOPage stella = new BeerDTOPage(1, 10, 1, 1,
                 List.of(BeerDTO.builder().id(UUID.randomUUID()).beerName("Stella").beerStyle(WHEAT).price(BigDecimal.valueOf(12.12)).upc("98765432")
                         .version(0).quantityOnHand(200).createdDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build()));
-        Mockito.when(restTemplate.getForEntity(anyString(), any())).thenReturn(ResponseEntity.ofNullable(stella));
+        Mockito.when(restTemplate.getUriTemplateHandler()).thenReturn(new DefaultUriBuilderFactory(ROOT_URL));
+        Mockito.when(restTemplate.getForObject(any(URI.class), eq(BeerDTOPage.class))).thenReturn(stella);
         BeerDTOPage beerDTOPage = beerClient.listBeers(Map.of("beerName", "Stella"));
         assertThat(beerDTOPage).isNotNull();
         assertThat(beerDTOPage.getPageNumber()).isEqualTo(1);
@@ -85,7 +102,8 @@ public class BeerClientMockTest {
         BeerDTO stella = BeerDTO.builder().id(UUID.randomUUID()).beerName("Stella").beerStyle(WHEAT).price(BigDecimal.valueOf(12.12)).upc("98765432")
                 .version(0).quantityOnHand(200).createdDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build();
 
-        Mockito.when(restTemplate.getForObject(anyString(), any(), anyString())).thenReturn(stella);
+        Mockito.when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(BeerDTO.class), anyString()))
+                .thenReturn(ResponseEntity.ok(stella));
         BeerDTO beer = beerClient.getBeerById(UUID.randomUUID().toString());
         assertThat(beer).isNotNull();
         assertThat(beer.getId()).isNotNull();
@@ -96,12 +114,42 @@ public class BeerClientMockTest {
 
     }
 
+    @Test
+    void getBeerByIdAfterDeleteDoesNotJoinAnEarlierGet() throws Exception {
+        String beerId = UUID.randomUUID().toString();
+        BeerDTO stella = BeerDTO.builder().id(UUID.fromString(beerId)).beerName("Stella").beerStyle(WHEAT).build();
+        CountDownLatch firstSent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger gets = new AtomicInteger();
+        Mockito.when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(BeerDTO.class), anyString()))
+                .thenAnswer(invocation -> {
+                    if (gets.getAndIncrement() == 0) {
+                        firstSent.countDown();
+                        release.await();
+                        return ResponseEntity.ok(stella);
+                    }
+                    throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+                });
+
+        CompletableFuture<BeerDTO> before = CompletableFuture.supplyAsync(() -> beerClient.getBeerById(beerId));
+        assertThat(firstSent.await(5, TimeUnit.SECONDS)).isTrue();
+        beerClient.deleteBeer(beerId);
+        CompletableFuture<BeerDTO> after = CompletableFuture.supplyAsync(() -> beerClient.getBeerById(beerId));
+
+        assertThatThrownBy(() -> after.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(HttpClientErrorException.NotFound.class);
+        release.countDown();
+        assertThat(before.get(5, TimeUnit.SECONDS)).isEqualTo(stella);
+        // the GET sent before the delete is not cached either
+        assertThatThrownBy(() -> beerClient.getBeerById(beerId)).isInstanceOf(HttpClientErrorException.NotFound.class);
+    }
+
     @Test
     void createBeer() {
         BeerDTO newBeer = BeerDTO.builder().id(UUID.randomUUID()).beerName("New Beer").beerStyle(WHEAT).price(BigDecimal.valueOf(12.12)).upc("98765432")
                 .version(0).quantityOnHand(200).createdDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build();
 
-        Mockito.when(restTemplate.postForObject(anyString(), any(BeerDTO.class), any())).thenReturn(newBeer);
+        Mockito.when(restTemplate.execute(anyString(), eq(HttpMethod.POST), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenReturn(newBeer);
         BeerDTO beer = beerClient.createBeer(newBeer);
         assertThat(beer).isNotNull();
         assertThat(beer.getId()).isNotNull();
@@ -114,7 +162,10 @@ public class BeerClientMockTest {
         BeerDTO beer = BeerDTO.builder().id(UUID.randomUUID()).beerName("Updated Beer").beerStyle(WHEAT).price(BigDecimal.valueOf(12.12)).upc("98765432")
                 .version(0).quantityOnHand(200).createdDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build();
 
-        Mockito.when(restTemplate.getForObject(anyString(), any(), anyString())).thenReturn(beer);
+        Mockito.when(restTemplate.execute(anyString(), eq(HttpMethod.PUT), any(RequestCallback.class), any(ResponseExtractor.class), anyString()))
+                .thenReturn(ResponseEntity.noContent().build());
+        Mockito.when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(BeerDTO.class), anyString()))
+                .thenReturn(ResponseEntity.ok(beer));
         BeerDTO beerDTO = beerClient.updateBeer(beer.getId().toString(), beer);
         assertThat(beerDTO).isNotNull();
         assertThat(beerDTO.getId()).isEqualTo(beer.getId());
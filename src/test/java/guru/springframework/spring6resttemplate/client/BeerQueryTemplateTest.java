@@ -0,0 +1,49 @@
+package guru.springframework.spring6resttemplate.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static guru.springframework.spring6resttemplate.model.BeerStyle.PALE_ALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class BeerQueryTemplateTest {
+
+    static final String BEER_URL = "http://localhost:8080/api/v1/beer";
+
+    BeerQueryTemplate template = new BeerQueryTemplate(BEER_URL);
+
+    @Test
+    void emptyQueryIsTheBaseUri() {
+        assertThat(template.expand(BeerQuery.ALL)).isEqualTo(BEER_URL);
+        assertThat(template.expand(BeerQuery.from(Map.of()))).isEqualTo(BEER_URL);
+    }
+
+    @Test
+    void expandsLikeUriComponentsBuilder() {
+        BeerQuery query = BeerQuery.builder().beerName("Mango & Bobs ä").beerStyle(PALE_ALE).pageNumber(2).pageSize(25).build();
+
+        String expected = UriComponentsBuilder.fromHttpUrl(BEER_URL)
+                .queryParam("beerName", "{beerName}").queryParam("beerStyle", "PALE_ALE")
+                .queryParam("pageNumber", 2).queryParam("pageSize", 25)
+                .encode().buildAndExpand("Mango & Bobs ä").toUriString();
+
+        assertThat(template.expand(query)).isEqualTo(expected);
+    }
+
+    @Test
+    void readsStringParameters() {
+        BeerQuery query = BeerQuery.from(Map.of("beerStyle", "PALE_ALE", "pageSize", "3",
+                BeerCatalogReplica.UPDATED_SINCE, "2026-10-18T09:00:00"));
+
+        assertThat(template.expand(query))
+                .isEqualTo(BEER_URL + "?beerStyle=PALE_ALE&pageSize=3&updatedSince=2026-10-18T09:00");
+        assertThat(query.updatedSince()).isEqualTo(LocalDateTime.of(2026, 10, 18, 9, 0));
+    }
+}
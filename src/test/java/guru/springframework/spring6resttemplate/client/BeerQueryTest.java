@@ -0,0 +1,33 @@
+package guru.springframework.spring6resttemplate.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static guru.springframework.spring6resttemplate.model.BeerStyle.PALE_ALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class BeerQueryTest {
+
+    @Test
+    void fromParsesStyleIgnoringCase() {
+        BeerQuery query = BeerQuery.from(Map.of("beerName", "ale", "beerStyle", "pale_ale", "pageNumber", "2"));
+
+        assertThat(query).isEqualTo(BeerQuery.builder().beerName("ale").beerStyle(PALE_ALE).pageNumber(2).build());
+    }
+
+    @Test
+    void fromNamesTheInvalidParameter() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BeerQuery.from(Map.of("pageSize", "ten")))
+                .withMessageContaining("pageSize").withMessageContaining("ten");
+        assertThatIllegalArgumentException().isThrownBy(() -> BeerQuery.from(Map.of("beerStyle", "LAGERISH")))
+                .withMessageContaining("beerStyle");
+        assertThatIllegalArgumentException().isThrownBy(() -> BeerQuery.from(Map.of("updatedSince", "yesterday")))
+                .withMessageContaining("updatedSince");
+    }
+}
@@ -0,0 +1,111 @@
+package guru.springframework.spring6resttemplate.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.spring6resttemplate.config.ResilienceProperties;
+import guru.springframework.spring6resttemplate.config.ResilienceProperties.OperationTimeouts;
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static guru.springframework.spring6resttemplate.model.BeerStyle.WHEAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class ReactiveBeerClientImplTest {
+
+    static final String ROOT_URL = "http://localhost:8080/api/v1/";
+    static final int TOTAL_PAGES = 5;
+    static final int PAGE_SIZE = 3;
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    List<Integer> requestedPages = new CopyOnWriteArrayList<>();
+    ReactiveBeerClient reactiveBeerClient;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .baseUrl(ROOT_URL)
+                .exchangeFunction(this::exchange)
+                .build();
+        OperationTimeouts timeouts = new OperationTimeouts(Duration.ofSeconds(1), Duration.ofSeconds(5));
+        reactiveBeerClient = new ReactiveBeerClientImpl(webClient,
+                new ResilienceProperties(Duration.ofSeconds(1), Duration.ofSeconds(1), timeouts, Map.of(), null, null, null, null),
+                2);
+    }
+
+    @Test
+    void listAllStreamsEveryPageInOrder() {
+        StepVerifier.create(reactiveBeerClient.listAll(Map.of("beerStyle", "WHEAT")).map(BeerDTO::getBeerName))
+                .expectNextSequence(IntStream.range(0, TOTAL_PAGES * PAGE_SIZE).mapToObj(i -> "Beer " + i).toList())
+                .verifyComplete();
+
+        assertThat(requestedPages).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void listAllFetchesPagesOnDemand() {
+        StepVerifier.create(reactiveBeerClient.listAll(Map.of()), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+
+        // the first page plus at most the prefetch window
+        assertThat(requestedPages).hasSizeLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void getBeerById() {
+        StepVerifier.create(reactiveBeerClient.getBeerById(UUID.randomUUID().toString()))
+                .assertNext(beer -> assertThat(beer.getBeerName()).isEqualTo("Stella"))
+                .verifyComplete();
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request) {
+        String path = request.url().getPath();
+        Object body;
+        if (path.endsWith("/beer")) {
+            int pageNumber = Integer.parseInt(UriComponentsBuilder.fromUri(request.url()).build()
+                    .getQueryParams().getFirst("pageNumber"));
+            requestedPages.add(pageNumber);
+            body = page(pageNumber);
+        } else {
+            body = BeerDTO.builder().id(UUID.randomUUID()).beerName("Stella").beerStyle(WHEAT).build();
+        }
+        try {
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(objectMapper.writeValueAsString(body))
+                    .build());
+        } catch (Exception e) {
+            return Mono.error(e);
+        }
+    }
+
+    private static BeerDTOPage page(int pageNumber) {
+        List<BeerDTO> beers = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> BeerDTO.builder().id(UUID.randomUUID())
+                        .beerName("Beer " + ((pageNumber - 1) * PAGE_SIZE + i)).beerStyle(WHEAT).build())
+                .toList();
+        return new BeerDTOPage(pageNumber, PAGE_SIZE, TOTAL_PAGES, TOTAL_PAGES * PAGE_SIZE, beers);
+    }
+}
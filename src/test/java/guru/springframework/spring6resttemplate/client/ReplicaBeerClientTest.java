@@ -0,0 +1,80 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import guru.springframework.spring6resttemplate.model.BeerDTOPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static guru.springframework.spring6resttemplate.model.BeerStyle.ALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaBeerClientTest {
+
+    @Mock
+    BeerClientImpl beerClient;
+
+    @Mock
+    BeerCatalogReplica replica;
+
+    @InjectMocks
+    ReplicaBeerClient replicaBeerClient;
+
+    List<BeerDTO> ales = List.of(ale("Duvel"), ale("Leffe"), ale("Orval"));
+
+    @Test
+    void styleLookupIsPagedFromTheFreshReplica() {
+        when(replica.isFresh()).thenReturn(true);
+        when(replica.find(null, ALE)).thenReturn(ales);
+
+        BeerDTOPage page = replicaBeerClient.listBeers(Map.of("beerStyle", "ALE", "pageNumber", "2", "pageSize", "2"));
+
+        assertThat(page.getBeers()).containsExactly(ales.get(2));
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        verify(beerClient, never()).listBeers(any(BeerQuery.class));
+    }
+
+    @Test
+    void nameLookupStreamsFromTheFreshReplica() {
+        when(replica.isFresh()).thenReturn(true);
+        when(replica.find("e", null)).thenReturn(ales.subList(0, 2));
+        List<BeerDTO> received = new ArrayList<>();
+
+        BeerDTOPage page = replicaBeerClient.listBeers(BeerQuery.builder().beerName("e").build(), received::add);
+
+        assertThat(received).containsExactlyElementsOf(ales.subList(0, 2));
+        assertThat(page.getBeers()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void staleReplicaListsFromTheService() {
+        BeerQuery query = BeerQuery.builder().beerStyle(ALE).build();
+        BeerDTOPage remote = new BeerDTOPage(1, 25, 1, 3, ales);
+        when(replica.isFresh()).thenReturn(false);
+        when(beerClient.listBeers(query)).thenReturn(remote);
+
+        assertThat(replicaBeerClient.listBeers(query)).isSameAs(remote);
+    }
+
+    static BeerDTO ale(String beerName) {
+        return BeerDTO.builder().id(UUID.randomUUID()).beerName(beerName).beerStyle(ALE).build();
+    }
+}
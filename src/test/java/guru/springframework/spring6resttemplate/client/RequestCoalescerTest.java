@@ -0,0 +1,101 @@
+package guru.springframework.spring6resttemplate.client;
+
+import guru.springframework.spring6resttemplate.model.BeerDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class RequestCoalescerTest {
+
+    RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+    @Test
+    void concurrentIdenticalCallsShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<BeerDTO>> results = IntStream.range(0, 50)
+                    .mapToObj(i -> executor.submit(() -> requestCoalescer.execute("beer/1", () -> {
+                        executions.incrementAndGet();
+                        await(release);
+                        return BeerDTO.builder().beerName("Stella").build();
+                    }, beer -> beer.toBuilder().build())))
+                    .toList();
+
+            awaitWaiters(49);
+            release.countDown();
+
+            for (Future<BeerDTO> result : results) {
+                assertThat(result.get().getBeerName()).isEqualTo("Stella");
+            }
+        }
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failureIsPropagatedToWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<BeerDTO>> results = IntStream.range(0, 10)
+                    .mapToObj(i -> executor.submit(() -> requestCoalescer.<BeerDTO>execute("beer/1", () -> {
+                        await(release);
+                        throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+                    }, beer -> beer)))
+                    .toList();
+
+            awaitWaiters(9);
+            release.countDown();
+
+            for (Future<BeerDTO> result : results) {
+                assertThatThrownBy(result::get).hasCauseInstanceOf(HttpServerErrorException.class);
+            }
+        }
+    }
+
+    @Test
+    void completedCallsAreNotReused() {
+        AtomicInteger executions = new AtomicInteger();
+
+        requestCoalescer.execute("beer/1", executions::incrementAndGet, count -> count);
+        requestCoalescer.execute("beer/1", executions::incrementAndGet, count -> count);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    /**
+     * Every caller but the leader has joined the call, so none of them can start a second execution.
+     */
+    private void awaitWaiters(int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (requestCoalescer.waiters("beer/1") < waiters) {
+            assertThat(System.nanoTime()).as("callers joining the call in flight").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package guru.springframework.spring6resttemplate.config;
+
+import guru.springframework.spring6resttemplate.config.ResilienceProperties.LimiterSettings;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static guru.springframework.spring6resttemplate.config.BeerOperation.GET_BEER_BY_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+            new LimiterSettings(true, 10, 2, 20, 0.5, 2.0, Duration.ZERO));
+    long now = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void failuresShrinkTheLimitOncePerRoundTrip() throws InterruptedException {
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+
+        limit.release(GET_BEER_BY_ID, MS, true, now);
+        limit.release(GET_BEER_BY_ID, MS, true, now);
+
+        assertThat(limit.limit()).isEqualTo(5);
+        assertThat(limit.inFlight()).isZero();
+    }
+
+    @Test
+    void slowCallsShrinkTheLimit() throws InterruptedException {
+        limit.tryAcquire();
+        limit.release(GET_BEER_BY_ID, 10 * MS, false, now);
+        limit.tryAcquire();
+        limit.release(GET_BEER_BY_ID, 50 * MS, false, now + 100 * MS);
+
+        assertThat(limit.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void limitNeverDropsBelowMinimum() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire();
+            limit.release(GET_BEER_BY_ID, MS, true, now + i * 10 * MS);
+        }
+
+        assertThat(limit.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void fastCallsGrowTheLimitWhileItIsInUse() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire();
+        }
+        for (int i = 0; i < 100; i++) {
+            limit.release(GET_BEER_BY_ID, MS, false, now);
+            limit.tryAcquire();
+        }
+
+        assertThat(limit.limit()).isGreaterThan(10).isLessThanOrEqualTo(20);
+    }
+
+    @Test
+    void idleClientDoesNotGrowTheLimit() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(GET_BEER_BY_ID, MS, false, now);
+        }
+
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void releaseWithoutOutcomeKeepsTheLimit() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        for (int i = 0; i < 10; i++) {
+            limit.release();
+        }
+
+        assertThat(limit.limit()).isEqualTo(10);
+        assertThat(limit.inFlight()).isZero();
+    }
+
+    @Test
+    void rejectsOnceTheLimitIsReached() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.release(GET_BEER_BY_ID, MS, false, now);
+
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+}
@@ -0,0 +1,168 @@
+package guru.springframework.spring6resttemplate.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+@ExtendWith(MockitoExtension.class)
+class BearerTokenHolderTest {
+
+    static final ClientRegistration CLIENT_REGISTRATION = ClientRegistration.withRegistrationId("springauth")
+            .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+            .clientId("clientid")
+            .clientSecret("clientsecret").tokenUri("test").build();
+
+    @Mock
+    OAuth2AuthorizedClientManager manager;
+
+    @Mock
+    OAuth2AuthorizedClientService authorizedClientService;
+
+    MutableClock clock = new MutableClock(Instant.parse("2026-10-18T10:00:00Z"));
+    Queue<Runnable> pendingRefreshes = new ArrayDeque<>();
+    volatile boolean queueRefreshes;
+    AtomicInteger issued = new AtomicInteger();
+    volatile Duration tokenLifetime = Duration.ofMinutes(5);
+
+    BearerTokenHolder tokenHolder;
+
+    @BeforeEach
+    void setUp() {
+        when(manager.authorize(any(OAuth2AuthorizeRequest.class))).thenAnswer(invocation -> {
+            Instant now = clock.instant();
+            return new OAuth2AuthorizedClient(CLIENT_REGISTRATION, "client",
+                    new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token-" + issued.incrementAndGet(),
+                            now, now.plus(tokenLifetime)));
+        });
+        tokenHolder = new BearerTokenHolder(manager, authorizedClientService, "springauth",
+                new TestingAuthenticationToken("client", null), clock, this::runOrQueue, Duration.ofMinutes(1),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void servesCachedTokenUntilRefreshWindow() {
+        String first = tokenHolder.token().headerValue();
+        clock.advance(Duration.ofMinutes(3));
+        String second = tokenHolder.token().headerValue();
+
+        assertThat(first).isEqualTo("Bearer token-1");
+        assertThat(second).isSameAs(first);
+        verify(manager, times(1)).authorize(any(OAuth2AuthorizeRequest.class));
+    }
+
+    @Test
+    void burstInRefreshWindowRefreshesOnceInBackground() {
+        tokenHolder.token();
+        clock.advance(Duration.ofMinutes(4).plusSeconds(30));
+        queueRefreshes = true;
+
+        IntStream.range(0, 100).parallel().forEach(i ->
+                assertThat(tokenHolder.token().headerValue()).isEqualTo("Bearer token-1"));
+
+        assertThat(pendingRefreshes).hasSize(1);
+        pendingRefreshes.poll().run();
+
+        assertThat(tokenHolder.token().headerValue()).isEqualTo("Bearer token-2");
+        verify(manager, times(2)).authorize(any(OAuth2AuthorizeRequest.class));
+    }
+
+    @Test
+    void shortLivedTokenIsServedUntilHalfItsLifetime() {
+        tokenLifetime = Duration.ofSeconds(30);
+        tokenHolder.token();
+        clock.advance(Duration.ofSeconds(10));
+
+        assertThat(tokenHolder.token().headerValue()).isEqualTo("Bearer token-1");
+        verify(manager, times(1)).authorize(any(OAuth2AuthorizeRequest.class));
+
+        clock.advance(Duration.ofSeconds(10));
+
+        assertThat(tokenHolder.token().headerValue()).isEqualTo("Bearer token-1");
+        assertThat(tokenHolder.token().headerValue()).isEqualTo("Bearer token-2");
+    }
+
+    @Test
+    void expiredTokenIsRefreshedBeforeUse() {
+        tokenHolder.token();
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThat(tokenHolder.token().headerValue()).isEqualTo("Bearer token-2");
+    }
+
+    @Test
+    void rejectedTokenIsReplaced() {
+        BearerTokenHolder.BearerToken rejected = tokenHolder.token();
+
+        assertThat(tokenHolder.refreshRejected(rejected).headerValue()).isEqualTo("Bearer token-2");
+        assertThat(tokenHolder.token().headerValue()).isEqualTo("Bearer token-2");
+        verify(authorizedClientService, times(2)).removeAuthorizedClient("springauth", "client");
+    }
+
+    private void runOrQueue(Runnable refresh) {
+        if (queueRefreshes) {
+            synchronized (pendingRefreshes) {
+                pendingRefreshes.add(refresh);
+            }
+        } else {
+            refresh.run();
+        }
+    }
+
+    static class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
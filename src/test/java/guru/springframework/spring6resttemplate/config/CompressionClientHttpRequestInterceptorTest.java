@@ -0,0 +1,99 @@
+package guru.springframework.spring6resttemplate.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class CompressionClientHttpRequestInterceptorTest {
+
+    static final String ROOT_URL = "http://localhost:8080/api/v1/";
+    static final String PAGE = "{\"content\":[" + "{\"beerName\":\"Stella\"},".repeat(200) + "{\"beerName\":\"Stella\"}]}";
+
+    SimpleMeterRegistry meterRegistry;
+    RestTemplate restTemplate;
+    MockRestServiceServer mockServer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        restTemplate = new RestTemplate();
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(ROOT_URL));
+        restTemplate.getInterceptors().add(new CompressionClientHttpRequestInterceptor(true, DataSize.ofBytes(1024), meterRegistry));
+        mockServer = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void gzipResponseIsInflated() throws IOException {
+        byte[] compressed = gzip(PAGE.getBytes(StandardCharsets.UTF_8));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        mockServer.expect(requestTo(ROOT_URL + "beer"))
+                .andExpect(header(HttpHeaders.ACCEPT_ENCODING, CompressionClientHttpRequestInterceptor.ACCEPT_ENCODING))
+                .andRespond(withSuccess(compressed, MediaType.APPLICATION_JSON).headers(headers));
+
+        String body = restTemplate.getForObject("beer", String.class);
+
+        mockServer.verify();
+        assertThat(body).isEqualTo(PAGE);
+        assertThat(meterRegistry.get("beer.client.compressed.bytes").tag("operation", "listBeers")
+                .tag("direction", "response").summary().totalAmount()).isEqualTo(compressed.length);
+        assertThat(meterRegistry.get("beer.client.uncompressed.bytes").tag("operation", "listBeers")
+                .tag("direction", "response").summary().totalAmount()).isEqualTo(PAGE.length());
+    }
+
+    @Test
+    void largeCreateBodyIsGzipped() {
+        mockServer.expect(requestTo(ROOT_URL + "beer"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(request -> assertThat(new String(gunzip(((MockClientHttpRequest) request).getBodyAsBytes()),
+                        StandardCharsets.UTF_8)).isEqualTo(PAGE))
+                .andRespond(withSuccess());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        restTemplate.postForLocation("beer", new HttpEntity<>(PAGE, headers));
+
+        mockServer.verify();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
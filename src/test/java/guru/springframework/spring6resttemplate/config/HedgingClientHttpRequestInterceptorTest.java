@@ -0,0 +1,114 @@
+package guru.springframework.spring6resttemplate.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class HedgingClientHttpRequestInterceptorTest {
+
+    static final MockClientHttpRequest GET_BEER =
+            new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost:8080/api/v1/beer/1"));
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void slowRequestIsHedgedAndTheFasterResponseWins() throws IOException {
+        HedgingClientHttpRequestInterceptor interceptor = interceptor(0.05, 1);
+        warmUp(interceptor);
+        ClientHttpResponse hedgeResponse = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        AtomicInteger calls = new AtomicInteger();
+
+        ClientHttpResponse response = interceptor.intercept(GET_BEER, new byte[0], (request, body) ->
+                calls.getAndIncrement() == 0 ? slowResponse(Duration.ofSeconds(5)) : hedgeResponse);
+
+        assertThat(response).isSameAs(hedgeResponse);
+        assertThat(calls).hasValue(2);
+        assertThat(hedges("hedged")).isEqualTo(1);
+        assertThat(hedges("won")).isEqualTo(1);
+    }
+
+    @Test
+    void exhaustedBudgetWaitsForTheFirstRequest() throws IOException {
+        HedgingClientHttpRequestInterceptor interceptor = interceptor(0, 0);
+        warmUp(interceptor);
+        AtomicInteger calls = new AtomicInteger();
+
+        ClientHttpResponse response = interceptor.intercept(GET_BEER, new byte[0], (request, body) -> {
+            calls.incrementAndGet();
+            return slowResponse(Duration.ofMillis(50));
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(calls).hasValue(1);
+        assertThat(hedges("hedged")).isZero();
+        assertThat(hedges("budget_exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void primaryThatLosesIsRecordedWithItsElapsedTime() throws IOException {
+        HedgingClientHttpRequestInterceptor interceptor = interceptor(1, 1);
+        warmUp(interceptor);
+
+        for (int i = 0; i < HedgingClientHttpRequestInterceptor.LatencyWindow.RECOMPUTE_EVERY; i++) {
+            AtomicInteger calls = new AtomicInteger();
+            interceptor.intercept(GET_BEER, new byte[0], (request, body) -> calls.getAndIncrement() == 0
+                    ? slowResponse(Duration.ofSeconds(5)) : slowResponse(Duration.ofMillis(20))).close();
+        }
+
+        // a third of the window now holds the primaries that lost, each after at least 20ms
+        assertThat(meterRegistry.get("beer.client.hedging.delay").tag("operation", "getBeerById").gauge().value())
+                .isGreaterThanOrEqualTo(20);
+    }
+
+    private HedgingClientHttpRequestInterceptor interceptor(double budgetRatio, int minHedgesPerSecond) {
+        return new HedgingClientHttpRequestInterceptor(true, 0.95, Duration.ofMillis(5), budgetRatio,
+                minHedgesPerSecond, executor, meterRegistry);
+    }
+
+    private static void warmUp(HedgingClientHttpRequestInterceptor interceptor) throws IOException {
+        ClientHttpRequestExecution fast = (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        for (int i = 0; i < HedgingClientHttpRequestInterceptor.LatencyWindow.MIN_SAMPLES; i++) {
+            interceptor.intercept(GET_BEER, new byte[0], fast);
+        }
+    }
+
+    private static ClientHttpResponse slowResponse(Duration latency) throws IOException {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        }
+        return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    }
+
+    private double hedges(String outcome) {
+        return meterRegistry.get("beer.client.hedges").tag("operation", "getBeerById").tag("outcome", outcome)
+                .counter().count();
+    }
+}
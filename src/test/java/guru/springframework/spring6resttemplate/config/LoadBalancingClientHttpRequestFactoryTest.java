@@ -0,0 +1,136 @@
+package guru.springframework.spring6resttemplate.config;
+
+import com.sun.net.httpserver.HttpServer;
+import guru.springframework.spring6resttemplate.config.LoadBalancingClientHttpRequestFactory.Endpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class LoadBalancingClientHttpRequestFactoryTest {
+
+    static final String ROOT_URL = "http://beer-service/api/v1/";
+
+    List<StubServer> servers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.server.stop(0));
+    }
+
+    @Test
+    void spreadsRequestsOverEndpoints() throws IOException {
+        StubServer first = stubServer(200);
+        StubServer second = stubServer(200);
+        StubServer third = stubServer(200);
+        LoadBalancingClientHttpRequestFactory factory = factory(Duration.ofMinutes(1), System::nanoTime);
+
+        for (int i = 0; i < 300; i++) {
+            assertThat(get(factory)).isEqualTo(200);
+        }
+
+        assertThat(List.of(first, second, third)).allSatisfy(server -> assertThat(server.hits.get()).isPositive());
+        assertThat(first.hits.get() + second.hits.get() + third.hits.get()).isEqualTo(300);
+    }
+
+    @Test
+    void ejectsFailingEndpointAndReadmitsItAfterAProbe() throws IOException {
+        StubServer failing = stubServer(500);
+        StubServer healthy = stubServer(200);
+        AtomicLong nanoTime = new AtomicLong();
+        LoadBalancingClientHttpRequestFactory factory = factory(Duration.ofMillis(500), nanoTime::get);
+        Endpoint failingEndpoint = factory.endpoints()[0];
+
+        for (int i = 0; i < 100 && !failingEndpoint.isEjected(); i++) {
+            get(factory);
+        }
+        assertThat(failingEndpoint.isEjected()).isTrue();
+        assertThat(failing.hits.get()).isEqualTo(3);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(get(factory)).isEqualTo(200);
+        }
+        assertThat(failing.hits.get()).isEqualTo(3);
+        assertThat(healthy.hits.get()).isPositive();
+
+        failing.status.set(200);
+        nanoTime.addAndGet(Duration.ofMillis(500).toNanos());
+        get(factory);
+
+        assertThat(failing.hits.get()).isEqualTo(4);
+        assertThat(failingEndpoint.isEjected()).isFalse();
+    }
+
+    @Test
+    void successOfARequestSentBeforeTheEjectionDoesNotReadmit() throws IOException {
+        stubServer(200);
+        stubServer(200);
+        AtomicLong nanoTime = new AtomicLong();
+        LoadBalancingClientHttpRequestFactory factory = factory(Duration.ofMillis(500), nanoTime::get);
+        Endpoint endpoint = factory.endpoints()[0];
+
+        for (int i = 0; i < 3; i++) {
+            endpoint.onFailure(nanoTime.get());
+        }
+        endpoint.onSuccess(false);
+
+        assertThat(endpoint.isEjected()).isTrue();
+        assertThat(endpoint.tryAcquire(nanoTime.get())).isNull();
+
+        endpoint.onSuccess(true);
+
+        assertThat(endpoint.isEjected()).isFalse();
+    }
+
+    private LoadBalancingClientHttpRequestFactory factory(Duration ejectionTime, LongSupplier nanoTime) {
+        return new LoadBalancingClientHttpRequestFactory(ROOT_URL,
+                servers.stream().map(StubServer::rootUrl).toList(), new SimpleClientHttpRequestFactory(),
+                3, ejectionTime, Duration.ofSeconds(10), new SimpleMeterRegistry(), nanoTime);
+    }
+
+    private static int get(LoadBalancingClientHttpRequestFactory factory) throws IOException {
+        try (ClientHttpResponse response = factory.createRequest(URI.create(ROOT_URL + "beer"), HttpMethod.GET).execute()) {
+            return response.getStatusCode().value();
+        }
+    }
+
+    private StubServer stubServer(int status) throws IOException {
+        StubServer stub = new StubServer(HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0),
+                new AtomicInteger(status), new AtomicInteger());
+        stub.server.createContext("/api/v1/beer", exchange -> {
+            try (exchange) {
+                stub.hits.incrementAndGet();
+                exchange.sendResponseHeaders(stub.status.get(), -1);
+            }
+        });
+        stub.server.start();
+        servers.add(stub);
+        return stub;
+    }
+
+    record StubServer(HttpServer server, AtomicInteger status, AtomicInteger hits) {
+
+        String rootUrl() {
+            return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/api/v1/";
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package guru.springframework.spring6resttemplate.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class LoggingClientHttpRequestInterceptorTest {
+
+    static final String ROOT_URL = "http://localhost:8080/api/v1/";
+
+    Logger logger = (Logger) LoggerFactory.getLogger(LoggingClientHttpRequestInterceptor.class);
+    ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    void sampledCallIsLoggedWithKeyValues() {
+        getBeer(new LoggingClientHttpRequestInterceptor("info", 1.0, Duration.ofHours(1)));
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.INFO);
+            assertThat(event.getKeyValuePairs()).extracting(pair -> pair.key)
+                    .containsExactly("operation", "method", "uri", "durationMs", "status");
+            assertThat(event.getKeyValuePairs()).filteredOn(pair -> pair.key.equals("operation"))
+                    .extracting(pair -> pair.value).containsExactly("getBeerById");
+        });
+    }
+
+    @Test
+    void slowCallsAreLoggedWithoutSampling() {
+        getBeer(new LoggingClientHttpRequestInterceptor("info", 0, Duration.ZERO));
+
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(event.getLevel()).isEqualTo(Level.WARN));
+    }
+
+    @Test
+    void fastCallsAreNotLoggedWithoutSampling() {
+        getBeer(new LoggingClientHttpRequestInterceptor("off", 1.0, Duration.ofHours(1)));
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    private void getBeer(LoggingClientHttpRequestInterceptor interceptor) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(ROOT_URL));
+        restTemplate.getInterceptors().add(interceptor);
+        MockRestServiceServer mockServer = MockRestServiceServer.bindTo(restTemplate).build();
+        mockServer.expect(method(HttpMethod.GET)).andRespond(withSuccess());
+
+        restTemplate.getForObject("beer/{beerId}", String.class, UUID.randomUUID());
+
+        mockServer.verify();
+    }
+}
@@ -0,0 +1,84 @@
+package guru.springframework.spring6resttemplate.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class MetricsClientHttpRequestInterceptorTest {
+
+    static final String ROOT_URL = "http://localhost:8080/api/v1/";
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    MetricsClientHttpRequestInterceptor interceptor = new MetricsClientHttpRequestInterceptor(meterRegistry);
+
+    @Test
+    void successfulGetIsTimedByOperationAndStatusClass() throws IOException {
+        MockClientHttpResponse response = new MockClientHttpResponse(new byte[42], HttpStatus.OK);
+        response.getHeaders().setContentLength(42);
+
+        interceptor.intercept(request(HttpMethod.GET, "beer/1"), new byte[0], (request, body) -> response).close();
+
+        assertThat(meterRegistry.get("beer.client.requests").tag("operation", "getBeerById").tag("method", "GET")
+                .tag("status", "2xx").tag("outcome", "SUCCESS").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("beer.client.request.bytes").tag("operation", "getBeerById")
+                .summary().totalAmount()).isZero();
+        assertThat(meterRegistry.get("beer.client.response.bytes").tag("operation", "getBeerById")
+                .summary().totalAmount()).isEqualTo(42);
+    }
+
+    @Test
+    void serverErrorOnCreateIsTaggedWithItsStatusClass() throws IOException {
+        byte[] beer = "{\"beerName\":\"Stella\"}".getBytes(StandardCharsets.UTF_8);
+
+        interceptor.intercept(request(HttpMethod.POST, "beer"), beer,
+                (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE)).close();
+
+        assertThat(meterRegistry.get("beer.client.requests").tag("operation", "createBeer").tag("method", "POST")
+                .tag("status", "5xx").tag("outcome", "SERVER_ERROR").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("beer.client.request.bytes").tag("operation", "createBeer")
+                .summary().totalAmount()).isEqualTo(beer.length);
+    }
+
+    @Test
+    void responseWithoutContentLengthIsCountedAsItIsRead() throws IOException {
+        byte[] page = "{\"content\":[]}".getBytes(StandardCharsets.UTF_8);
+
+        try (ClientHttpResponse response = interceptor.intercept(request(HttpMethod.GET, "beer"), new byte[0],
+                (request, body) -> new MockClientHttpResponse(page, HttpStatus.OK))) {
+            response.getBody().readAllBytes();
+        }
+
+        assertThat(meterRegistry.get("beer.client.response.bytes").tag("operation", "listBeers")
+                .summary().totalAmount()).isEqualTo(page.length);
+    }
+
+    @Test
+    void ioErrorIsTimedWithoutStatus() {
+        assertThatThrownBy(() -> interceptor.intercept(request(HttpMethod.DELETE, "beer/1"), new byte[0], (request, body) -> {
+            throw new SocketTimeoutException("Read timed out");
+        })).isInstanceOf(SocketTimeoutException.class);
+
+        assertThat(meterRegistry.get("beer.client.requests").tag("operation", "deleteBeer").tag("method", "DELETE")
+                .tag("status", "IO_ERROR").tag("outcome", "UNKNOWN").timer().count()).isEqualTo(1);
+    }
+
+    private static MockClientHttpRequest request(HttpMethod method, String path) {
+        return new MockClientHttpRequest(method, URI.create(ROOT_URL + path));
+    }
+}
@@ -0,0 +1,123 @@
+package guru.springframework.spring6resttemplate.config;
+
+import guru.springframework.spring6resttemplate.config.ResilienceProperties.BulkheadSettings;
+import guru.springframework.spring6resttemplate.config.ResilienceProperties.CircuitBreakerSettings;
+import guru.springframework.spring6resttemplate.config.ResilienceProperties.OperationTimeouts;
+import guru.springframework.spring6resttemplate.config.ResilienceProperties.RetrySettings;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServiceUnavailable;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * @author john
+ * @since 18/10/2026
+ */
+class ResilienceClientHttpRequestInterceptorTest {
+
+    static final String ROOT_URL = "http://localhost:8080/api/v1/";
+
+    SimpleMeterRegistry meterRegistry;
+    RestTemplate restTemplate;
+    MockRestServiceServer mockServer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        restTemplate = new RestTemplate();
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(ROOT_URL));
+        restTemplate.getInterceptors().add(new ResilienceClientHttpRequestInterceptor(properties(3), meterRegistry));
+        mockServer = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void idempotentRequestIsRetriedAfterServiceUnavailable() {
+        mockServer.expect(requestTo(ROOT_URL + "beer/1")).andExpect(method(HttpMethod.GET))
+                .andRespond(withServiceUnavailable());
+        mockServer.expect(requestTo(ROOT_URL + "beer/1")).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        String body = restTemplate.getForObject("beer/1", String.class);
+
+        mockServer.verify();
+        assertThat(body).isEqualTo("{}");
+        assertThat(meterRegistry.get("beer.client.retries").tag("operation", "getBeerById")
+                .tag("outcome", "retried").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void createIsNotRetried() {
+        mockServer.expect(ExpectedCount.once(), requestTo(ROOT_URL + "beer")).andExpect(method(HttpMethod.POST))
+                .andRespond(withServiceUnavailable());
+
+        assertThatThrownBy(() -> restTemplate.postForLocation("beer", "{}"))
+                .isInstanceOf(HttpServerErrorException.ServiceUnavailable.class);
+        mockServer.verify();
+    }
+
+    @Test
+    void circuitOpensAfterFailuresAndRejectsCalls() {
+        restTemplate.getInterceptors().set(0, new ResilienceClientHttpRequestInterceptor(properties(1), meterRegistry));
+        mockServer = MockRestServiceServer.bindTo(restTemplate).build();
+        mockServer.expect(ExpectedCount.times(4), requestTo(ROOT_URL + "beer/1")).andRespond(withServerError());
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> restTemplate.getForObject("beer/1", String.class))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        assertThatThrownBy(() -> restTemplate.getForObject("beer/1", String.class))
+                .isInstanceOf(CallNotPermittedException.class);
+        mockServer.verify();
+        assertThat(meterRegistry.get("beer.client.circuitbreaker.transitions").tag("to", "OPEN").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void runtimeExceptionGivesBackTheHalfOpenPermit() {
+        ResilienceClientHttpRequestInterceptor interceptor =
+                new ResilienceClientHttpRequestInterceptor(properties(1), meterRegistry);
+        interceptor.circuitBreaker().transitionToOpenState();
+        interceptor.circuitBreaker().transitionToHalfOpenState();
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create(ROOT_URL + "beer/1"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], (req, body) -> {
+                throw new IllegalStateException("no token");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(interceptor.circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(interceptor.circuitBreaker().getMetrics().getNumberOfBufferedCalls()).isZero();
+    }
+
+    static ResilienceProperties properties(int maxAttempts) {
+        return new ResilienceProperties(Duration.ofSeconds(1), Duration.ofSeconds(1),
+                new OperationTimeouts(Duration.ofSeconds(1), Duration.ofSeconds(5)),
+                Map.of(),
+                new RetrySettings(maxAttempts, Duration.ofMillis(1), 2, Duration.ofMillis(10), 0.5, 0.1, 10),
+                new CircuitBreakerSettings(50, 4, 4, Duration.ofMinutes(1), 1),
+                new BulkheadSettings(10, Duration.ZERO), null);
+    }
+}